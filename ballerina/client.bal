@@ -55,16 +55,12 @@ public isolated client class Client {
     } external;
 
     # Lists all buckets in the AWS account.
+    # Returns an Error if the region of a bucket cannot be looked up or is not a member of `Region`.
     #
     # + return - List of buckets or an Error
     @display {label: "List Buckets"}
     remote isolated function listBuckets() returns @display {label: "Bucket Names"} Bucket[]|Error {
-        json result = check nativeListBuckets(self);
-        Bucket[]|error buckets = result.fromJsonWithType();
-        if buckets is error {
-            return error Error(buckets.message(), buckets);
-        }
-        return buckets;
+        return nativeListBuckets(self);
     }
 
     # Gets the AWS region of a bucket.
@@ -111,6 +107,7 @@ public isolated client class Client {
     }
 
     # Uploads an S3 object from a stream.
+    # When the content length is not known up front, the stream is uploaded in parts as they fill.
     #
     # + bucketName - The name of the bucket
     # + objectKey - The path of the object
@@ -126,6 +123,41 @@ public isolated client class Client {
         'class: "io.ballerina.lib.aws.s3.NativeClientAdaptor"
     } external;
 
+    # Uploads a file as a multipart upload with parts sent in parallel.
+    # Each part is read from its region of the file, so the file is not loaded into memory.
+    # The upload is aborted if any part fails.
+    #
+    # + bucketName - The name of the bucket
+    # + objectKey - The path of the object
+    # + filePath - The local file path to upload
+    # + config - Optional part size, concurrency and object configuration
+    # + return - An Error if the upload fails
+    @display {label: "Upload File"}
+    remote isolated function uploadFile(@display {label: "Bucket Name"} string bucketName,
+            @display {label: "Object Key"} string objectKey,
+            @display {label: "File Path"} string filePath,
+            *ManagedUploadConfig config) returns Error? = @java:Method {
+        name: "uploadFile",
+        'class: "io.ballerina.lib.aws.s3.NativeClientAdaptor"
+    } external;
+
+    # Uploads large content as a multipart upload with parts sent in parallel.
+    # The upload is aborted if any part fails.
+    #
+    # + bucketName - The name of the bucket
+    # + objectKey - The path of the object
+    # + content - The object content (string | xml | json | byte[])
+    # + config - Optional part size, concurrency and object configuration
+    # + return - An Error if the upload fails
+    @display {label: "Put Large Object"}
+    remote isolated function putLargeObject(@display {label: "Bucket Name"} string bucketName,
+            @display {label: "Object Key"} string objectKey,
+            @display {label: "Content"} ContentType content,
+            *ManagedUploadConfig config) returns Error? {
+        byte[] converted = toByteArray(content);
+        check nativePutLargeObject(self, bucketName, objectKey, converted, config);
+    }
+
     # Downloads an S3 object as a stream.
     #
     # + bucketName - The name of the bucket
@@ -141,6 +173,71 @@ public isolated client class Client {
         return new stream<byte[], Error?>(streamImpl);
     }
 
+    # Downloads an S3 object to a local file.
+    # The response body is written straight to the file, so the content is not held in memory.
+    #
+    # + bucketName - The name of the bucket
+    # + objectKey - The path of the object
+    # + filePath - The local file path to write to. An existing file is overwritten
+    # + config - Optional retrieval configuration
+    # + return - The number of bytes written or an Error
+    @display {label: "Get Object To File"}
+    remote isolated function getObjectToFile(@display {label: "Bucket Name"} string bucketName,
+            @display {label: "Object Key"} string objectKey,
+            @display {label: "File Path"} string filePath,
+            *GetObjectToFileConfig config) returns @display {label: "Bytes Written"} int|Error = @java:Method {
+        name: "getObjectToFile",
+        'class: "io.ballerina.lib.aws.s3.NativeClientAdaptor"
+    } external;
+
+    # Downloads an S3 object to a local file by fetching byte ranges in parallel.
+    # Each range is written to its position in a temporary file next to the target as soon as it arrives. The
+    # temporary file replaces the target with an atomic rename once every range is written, and is deleted if the
+    # download fails, so an existing file is never left partially written.
+    #
+    # + bucketName - The name of the bucket
+    # + objectKey - The path of the object
+    # + filePath - The local file path to write to. An existing file is replaced once the download succeeds
+    # + config - Optional range size, concurrency and version configuration
+    # + return - An Error if the download fails
+    @display {label: "Download File"}
+    remote isolated function downloadFile(@display {label: "Bucket Name"} string bucketName,
+            @display {label: "Object Key"} string objectKey,
+            @display {label: "File Path"} string filePath,
+            *ParallelDownloadConfig config) returns Error? = @java:Method {
+        name: "downloadFile",
+        'class: "io.ballerina.lib.aws.s3.NativeClientAdaptor"
+    } external;
+
+    # Downloads a large S3 object as a byte array by fetching byte ranges in parallel.
+    #
+    # + bucketName - The name of the bucket
+    # + objectKey - The path of the object
+    # + config - Optional range size, concurrency and version configuration
+    # + return - The object content as `byte[]` or an Error
+    @display {label: "Get Large Object"}
+    remote isolated function getLargeObject(@display {label: "Bucket Name"} string bucketName,
+            @display {label: "Object Key"} string objectKey,
+            *ParallelDownloadConfig config) returns @display {label: "Content"} byte[]|Error = @java:Method {
+        name: "getLargeObject",
+        'class: "io.ballerina.lib.aws.s3.NativeClientAdaptor"
+    } external;
+
+    # Downloads a large S3 object as a stream by fetching byte ranges in parallel.
+    # Ranges are fetched ahead of the consumer and returned in order.
+    #
+    # + bucketName - The name of the bucket
+    # + objectKey - The path of the object
+    # + config - Optional range size, concurrency and version configuration
+    # + return - A stream of byte chunks containing the object content, or an Error
+    @display {label: "Get Large Object As Stream"}
+    remote isolated function getLargeObjectAsStream(@display {label: "Bucket Name"} string bucketName,
+            @display {label: "Object Key"} string objectKey,
+            *ParallelDownloadConfig config) returns @display {label: "Byte Stream"} stream<byte[], error?>|Error {
+        StreamIterator streamImpl = check nativeGetLargeObjectAsStream(self, bucketName, objectKey, config);
+        return new stream<byte[], Error?>(streamImpl);
+    }
+
     # Downloads an S3 object and returns its content as a byte array.
     # This method loads the entire object into memory and is suitable for smaller objects.
     # For large objects, consider using `getObjectAsStream` instead.
@@ -248,6 +345,38 @@ public isolated client class Client {
         'class: "io.ballerina.lib.aws.s3.NativeClientAdaptor"
     } external;
 
+    # Deletes S3 objects in batches of up to 1000 objects per request.
+    # Objects that S3 could not delete are returned in the result, while a failed request fails the operation.
+    #
+    # + bucketName - The name of the bucket
+    # + objects - The keys or identifiers of the objects to delete
+    # + config - Optional batch delete configuration
+    # + return - The number of deleted objects and the objects that could not be deleted, or an Error
+    @display {label: "Delete Objects"}
+    remote isolated function deleteObjects(@display {label: "Bucket Name"} string bucketName,
+            @display {label: "Objects"} (string|ObjectIdentifier)[] objects,
+            *DeleteObjectsConfig config) returns @display {label: "Delete Result"} DeleteObjectsResult|Error
+            = @java:Method {
+        name: "deleteObjects",
+        'class: "io.ballerina.lib.aws.s3.NativeClientAdaptor"
+    } external;
+
+    # Deletes all S3 objects that start with a prefix.
+    # The next page of keys is listed while the previous page is deleted in batches.
+    #
+    # + bucketName - The name of the bucket
+    # + prefix - The prefix of the objects to delete. Must not be empty
+    # + config - Optional batch delete configuration
+    # + return - The number of deleted objects and the objects that could not be deleted, or an Error
+    @display {label: "Delete By Prefix"}
+    remote isolated function deleteByPrefix(@display {label: "Bucket Name"} string bucketName,
+            @display {label: "Prefix"} string prefix,
+            *DeleteObjectsConfig config) returns @display {label: "Delete Result"} DeleteObjectsResult|Error
+            = @java:Method {
+        name: "deleteByPrefix",
+        'class: "io.ballerina.lib.aws.s3.NativeClientAdaptor"
+    } external;
+
     # Lists S3 objects in an S3 bucket.
     #
     # + bucketName - The name of the bucket
@@ -257,12 +386,35 @@ public isolated client class Client {
     remote isolated function listObjects(@display {label: "Bucket Name"} string bucketName,
             *ListObjectsConfig config)
             returns @display {label: "Objects List"} ListObjectsResponse|Error {
-        json result = check nativeListObjectsV2(self, bucketName, config);
-        ListObjectsResponse|error response = result.fromJsonWithType();
-        if response is error {
-            return error Error(response.message(), response);
-        }
-        return response;
+        return nativeListObjectsV2(self, bucketName, config);
+    }
+
+    # Lists the S3 objects in an S3 bucket as a stream.
+    # Pages are requested transparently, and the next page is fetched while the current one is consumed.
+    #
+    # + bucketName - The name of the bucket
+    # + config - Optional listing configuration
+    # + return - Stream of objects or an Error
+    @display {label: "List Objects As Stream"}
+    remote isolated function listObjectsAsStream(@display {label: "Bucket Name"} string bucketName,
+            *ListObjectsStreamConfig config)
+            returns @display {label: "Object Stream"} stream<S3Object, Error?>|Error {
+        ObjectIterator iterator = check nativeListObjectsAsStream(self, bucketName, config);
+        return new stream<S3Object, Error?>(iterator);
+    }
+
+    # Lists the S3 objects in an S3 bucket as a stream, listing partitions of the key space in parallel.
+    # Suited to full scans of very large buckets, where a single listing is limited by its serial round trips.
+    #
+    # + bucketName - The name of the bucket
+    # + config - Optional partitioning configuration
+    # + return - Stream of objects or an Error
+    @display {label: "List Objects In Parallel"}
+    remote isolated function listObjectsInParallel(@display {label: "Bucket Name"} string bucketName,
+            *ParallelListConfig config)
+            returns @display {label: "Object Stream"} stream<S3Object, Error?>|Error {
+        ObjectIterator iterator = check nativeListObjectsInParallel(self, bucketName, config);
+        return new stream<S3Object, Error?>(iterator);
     }
 
     # Creates a presigned URL for temporary access to an S3 object.
@@ -280,6 +432,21 @@ public isolated client class Client {
         'class: "io.ballerina.lib.aws.s3.NativeClientAdaptor"
     } external;
 
+    # Creates presigned URLs for many S3 objects of a bucket, all with the same configuration.
+    #
+    # + bucketName - The name of the bucket
+    # + objectKeys - The paths of the objects
+    # + config - Optional presigned URL configuration
+    # + return - The presigned URL of each key or an Error
+    @display {label: "Create Presigned URLs"}
+    remote isolated function createPresignedUrls(@display {label: "Bucket Name"} string bucketName,
+            @display {label: "Object Keys"} string[] objectKeys,
+            *PresignedUrlConfig config)
+            returns @display {label: "Presigned URLs"} map<string>|Error = @java:Method {
+        name: "createPresignedUrls",
+        'class: "io.ballerina.lib.aws.s3.NativeClientAdaptor"
+    } external;
+
     # Gets metadata for an S3 object without downloading it.
     #
     # + bucketName - The name of the bucket
@@ -291,12 +458,23 @@ public isolated client class Client {
             @display {label: "Object Key"} string objectKey,
             *HeadObjectConfig config)
             returns @display {label: "Metadata"} ObjectMetadata|Error {
-        json result = check nativeHeadObject(self, bucketName, objectKey, config);
-        ObjectMetadata|error metadata = result.fromJsonWithType();
-        if metadata is error {
-            return error Error(metadata.message(), metadata);
-        }
-        return metadata;
+        return nativeHeadObject(self, bucketName, objectKey, config);
+    }
+
+    # Gets metadata for many S3 objects, with the HEAD requests sent in parallel.
+    #
+    # + bucketName - The name of the bucket
+    # + objectKeys - The paths of the objects
+    # + config - Optional batch configuration
+    # + return - The metadata or the error of each key, or an Error
+    @display {label: "Get Objects Metadata"}
+    remote isolated function getObjectsMetadata(@display {label: "Bucket Name"} string bucketName,
+            @display {label: "Object Keys"} string[] objectKeys,
+            *BatchHeadConfig config)
+            returns @display {label: "Metadata"} map<ObjectMetadata|Error>|Error {
+        map<ObjectMetadata|Error> results = {};
+        check nativeGetObjectsMetadata(self, bucketName, objectKeys, config, results);
+        return results;
     }
 
     # Copies an S3 object from one location to another.
@@ -317,6 +495,47 @@ public isolated client class Client {
         'class: "io.ballerina.lib.aws.s3.NativeClientAdaptor"
     } external;
 
+    # Copies a large S3 object as byte ranges that are copied in parallel within S3.
+    # Objects above the 5 GB limit of `copyObject` can be copied, and the content does not pass through the client.
+    # As with `copyObject`, the metadata and tags of the source are kept unless they are replaced in the config.
+    #
+    # + sourceBucket - Source bucket name
+    # + sourceKey - Source object path
+    # + destinationBucket - Destination bucket name
+    # + destinationKey - Destination object path
+    # + config - Optional copy configuration
+    # + return - An Error if copy fails
+    @display {label: "Copy Large Object"}
+    remote isolated function copyLargeObject(@display {label: "Source Bucket"} string sourceBucket,
+            @display {label: "Source Key"} string sourceKey,
+            @display {label: "Destination Bucket"} string destinationBucket,
+            @display {label: "Destination Key"} string destinationKey,
+            *LargeCopyConfig config) returns Error? = @java:Method {
+        name: "copyLargeObject",
+        'class: "io.ballerina.lib.aws.s3.NativeClientAdaptor"
+    } external;
+
+    # Synchronizes the objects under a prefix to a prefix of another or the same bucket, with server-side copies.
+    # Objects that are missing in the destination, or that differ in size or ETag, are copied. Objects that were
+    # uploaded in parts may have a different ETag after a copy, so they can be copied again by later syncs.
+    # In the same bucket, the source and destination prefixes must not overlap.
+    #
+    # + sourceBucket - Source bucket name
+    # + sourcePrefix - Prefix of the objects to synchronize
+    # + destinationBucket - Destination bucket name
+    # + destinationPrefix - Prefix that replaces the source prefix in the destination keys
+    # + config - Optional sync configuration
+    # + return - The counts of copied, skipped, failed and deleted objects, or an Error
+    @display {label: "Sync Prefix"}
+    remote isolated function syncPrefix(@display {label: "Source Bucket"} string sourceBucket,
+            @display {label: "Source Prefix"} string sourcePrefix,
+            @display {label: "Destination Bucket"} string destinationBucket,
+            @display {label: "Destination Prefix"} string destinationPrefix,
+            *SyncConfig config) returns @display {label: "Sync Result"} SyncResult|Error = @java:Method {
+        name: "syncPrefix",
+        'class: "io.ballerina.lib.aws.s3.NativeClientAdaptor"
+    } external;
+
     # Checks if an S3 object exists in an S3 bucket.
     #
     # + bucketName - The name of the bucket
@@ -330,6 +549,21 @@ public isolated client class Client {
         'class: "io.ballerina.lib.aws.s3.NativeClientAdaptor"
     } external;
 
+    # Checks whether many S3 objects exist, with the HEAD requests sent in parallel.
+    #
+    # + bucketName - The name of the bucket
+    # + objectKeys - The paths of the objects
+    # + config - Optional batch configuration
+    # + return - Whether each key exists or the error of checking it, or an Error
+    @display {label: "Do Objects Exist"}
+    remote isolated function doObjectsExist(@display {label: "Bucket Name"} string bucketName,
+            @display {label: "Object Keys"} string[] objectKeys,
+            *BatchHeadConfig config) returns @display {label: "Exists"} map<boolean|Error>|Error {
+        map<boolean|Error> results = {};
+        check nativeDoObjectsExist(self, bucketName, objectKeys, config, results);
+        return results;
+    }
+
     # Creates a multipart upload.
     #
     # + bucketName - The name of the bucket
@@ -419,6 +653,34 @@ public isolated client class Client {
         'class: "io.ballerina.lib.aws.s3.NativeClientAdaptor"
     } external;
 
+    # Gets the request metrics of the client.
+    #
+    # + return - The metrics of each S3 operation, or nil if metrics are not enabled for the client
+    public isolated function getMetrics() returns ClientMetrics? = @java:Method {
+        name: "getMetrics",
+        'class: "io.ballerina.lib.aws.s3.NativeClientAdaptor"
+    } external;
+
+    # Publishes the request metrics of the client as Ballerina observability gauges, tagged with the operation name,
+    # so that they are exported by the configured metrics reporter. Call it periodically, for example from a task.
+    #
+    # + return - An Error if a metric cannot be registered
+    public isolated function publishMetrics() returns Error? {
+        ClientMetrics? metrics = self.getMetrics();
+        if metrics is () {
+            return;
+        }
+        return publishClientMetrics(metrics);
+    }
+
+    # Gets the hit and miss counters of the object metadata cache.
+    #
+    # + return - The cache counters, or nil if the client has no metadata cache
+    public isolated function getMetadataCacheStats() returns MetadataCacheStats? = @java:Method {
+        name: "getMetadataCacheStats",
+        'class: "io.ballerina.lib.aws.s3.NativeClientAdaptor"
+    } external;
+
     # Closes the underlying S3 client and releases resources.
     #
     # + return - An Error if closing fails
@@ -438,7 +700,7 @@ isolated function closeClient(Client clientObj) returns Error? = @java:Method {
     'class: "io.ballerina.lib.aws.s3.NativeClientAdaptor"
 } external;
 
-isolated function nativeListBuckets(Client clientObj) returns json|Error = @java:Method {
+isolated function nativeListBuckets(Client clientObj) returns Bucket[]|Error = @java:Method {
     name: "listBuckets",
     'class: "io.ballerina.lib.aws.s3.NativeClientAdaptor"
 } external;
@@ -448,22 +710,54 @@ isolated function nativePutObjectWithContent(Client clientObj, string bucket, st
     'class: "io.ballerina.lib.aws.s3.NativeClientAdaptor"
 } external;
 
+isolated function nativePutLargeObject(Client clientObj, string bucket, string key, byte[] content, ManagedUploadConfig config) returns Error? = @java:Method {
+    name: "putLargeObject",
+    'class: "io.ballerina.lib.aws.s3.NativeClientAdaptor"
+} external;
+
 isolated function nativeGetObject(Client clientObj, string bucket, string key, GetObjectConfig config) returns byte[]|Error = @java:Method {
     name: "getObject",
     'class: "io.ballerina.lib.aws.s3.NativeClientAdaptor"
 } external;
 
+isolated function nativeGetLargeObjectAsStream(Client clientObj, string bucket, string key, ParallelDownloadConfig config) returns StreamIterator|Error = @java:Method {
+    name: "getLargeObjectAsStream",
+    'class: "io.ballerina.lib.aws.s3.NativeClientAdaptor"
+} external;
+
 isolated function nativeGetObjectAsStream(Client clientObj, string bucket, string key, GetObjectConfig config) returns StreamIterator|Error = @java:Method {
     name: "getObjectAsStream",
     'class: "io.ballerina.lib.aws.s3.NativeClientAdaptor"
 } external;
 
-isolated function nativeListObjectsV2(Client self, string bucket, ListObjectsConfig config) returns json|Error = @java:Method {
+isolated function nativeListObjectsV2(Client self, string bucket, ListObjectsConfig config) returns ListObjectsResponse|Error = @java:Method {
     name: "listObjectsV2",
     'class: "io.ballerina.lib.aws.s3.NativeClientAdaptor"
 } external;
 
-isolated function nativeHeadObject(Client self, string bucket, string key, HeadObjectConfig config) returns json|Error = @java:Method {
+isolated function nativeListObjectsAsStream(Client self, string bucket, ListObjectsStreamConfig config) returns ObjectIterator|Error = @java:Method {
+    name: "listObjectsAsStream",
+    'class: "io.ballerina.lib.aws.s3.NativeClientAdaptor"
+} external;
+
+isolated function nativeListObjectsInParallel(Client self, string bucket, ParallelListConfig config) returns ObjectIterator|Error = @java:Method {
+    name: "listObjectsInParallel",
+    'class: "io.ballerina.lib.aws.s3.NativeClientAdaptor"
+} external;
+
+isolated function nativeDoObjectsExist(Client self, string bucket, string[] keys, BatchHeadConfig config,
+        map<boolean|Error> results) returns Error? = @java:Method {
+    name: "doObjectsExist",
+    'class: "io.ballerina.lib.aws.s3.NativeClientAdaptor"
+} external;
+
+isolated function nativeGetObjectsMetadata(Client self, string bucket, string[] keys, BatchHeadConfig config,
+        map<ObjectMetadata|Error> results) returns Error? = @java:Method {
+    name: "getObjectsMetadata",
+    'class: "io.ballerina.lib.aws.s3.NativeClientAdaptor"
+} external;
+
+isolated function nativeHeadObject(Client self, string bucket, string key, HeadObjectConfig config) returns ObjectMetadata|Error = @java:Method {
     name: "headObject",
     'class: "io.ballerina.lib.aws.s3.NativeClientAdaptor"
 } external;
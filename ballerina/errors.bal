@@ -35,5 +35,9 @@ public type NoSuchBucketError distinct S3Error;
 # Represents an error when the bucket is not empty (for deletion).
 public type BucketNotEmptyError distinct S3Error;
 
+# Represents an error when S3 throttles requests, such as a `SlowDown` response when the request rate of a prefix is
+# too high. The request was retried according to the retry configuration of the client before this error was returned.
+public type ThrottlingError distinct S3Error;
+
 # Represents a client-side error.
 public type ClientError distinct Error;
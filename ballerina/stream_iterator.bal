@@ -38,6 +38,29 @@ isolated class StreamIterator {
     }
 }
 
+# The iterator class that pages through the objects of a bucket.
+# The native listing fetches the next page while the objects of the current page are consumed.
+isolated class ObjectIterator {
+
+    # Returns the next object of the listing, waiting for the next page when the current one is consumed.
+    #
+    # + return - A record containing the object, an Error, or nil if the listing ends
+    public isolated function next() returns record {| S3Object value; |}|Error? {
+        S3Object? result = check nativeReadNextObject(self);
+        if result is S3Object {
+            return {value: result};
+        }
+        return;
+    }
+
+    # Stops the listing and cancels the page that is in flight.
+    #
+    # + return - An Error if closing fails
+    public isolated function close() returns Error? {
+        return nativeCloseObjectStream(self);
+    }
+}
+
 isolated function nativeReadStreamBytes(StreamIterator streamObj) returns byte[]|Error? = @java:Method {
     name: "readStreamBytes",
     'class: "io.ballerina.lib.aws.s3.StreamIteratorUtils"
@@ -47,3 +70,13 @@ isolated function nativeCloseStream(StreamIterator streamObj) returns Error? = @
     name: "closeStream",
     'class: "io.ballerina.lib.aws.s3.StreamIteratorUtils"
 } external;
+
+isolated function nativeReadNextObject(ObjectIterator iterator) returns S3Object|Error? = @java:Method {
+    name: "readNextObject",
+    'class: "io.ballerina.lib.aws.s3.StreamIteratorUtils"
+} external;
+
+isolated function nativeCloseObjectStream(ObjectIterator iterator) returns Error? = @java:Method {
+    name: "closeObjectStream",
+    'class: "io.ballerina.lib.aws.s3.StreamIteratorUtils"
+} external;
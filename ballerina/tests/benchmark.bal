@@ -0,0 +1,337 @@
+// Copyright (c) 2025 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/io;
+import ballerina/os;
+import ballerina/test;
+import ballerina/time;
+
+// Benchmarks only run when explicitly requested, e.g. `RUN_BENCHMARKS=true bal test --groups benchmark`
+final boolean runBenchmarks = os:getEnv("RUN_BENCHMARKS") == "true";
+
+const int BENCHMARK_WORKERS = 64;
+const int BENCHMARK_OPS_PER_WORKER = 20;
+const int BENCHMARK_OBJECT_SIZE = 16384;
+const int ASYNC_BENCHMARK_WORKERS = 512;
+const int TRANSFER_BENCHMARK_OBJECT_SIZE = 268435456;
+const int STREAM_BENCHMARK_OBJECT_SIZE = 67108864;
+const int LISTING_BENCHMARK_KEYS = 1000;
+const int LISTING_BENCHMARK_ITERATIONS = 200;
+
+@test:Config {
+    groups: ["benchmark"],
+    dependsOn: [testCreateBucket]
+}
+function benchmarkThroughputByPoolSize() returns error? {
+    if !runBenchmarks {
+        return;
+    }
+    string objectKey = "benchmark/pool/object.bin";
+    byte[] payload = from int i in 0 ..< BENCHMARK_OBJECT_SIZE select <byte>(i % 256);
+    check s3Client->putObject(testBucketName, objectKey, payload);
+
+    // Fixed number of concurrent callers against a growing pool shows where the pool stops being the bottleneck
+    foreach int poolSize in [8, 16, 32, 64, 128] {
+        Client benchmarkClient = check createTestClient({
+            transport: {maxConnections: poolSize, connectionAcquisitionTimeout: 60}
+        });
+        decimal startTime = time:monotonicNow();
+        future<error?>[] workers = [];
+        foreach int _ in 0 ..< BENCHMARK_WORKERS {
+            future<error?> worker = start runPoolBenchmarkWorker(benchmarkClient, objectKey);
+            workers.push(worker);
+        }
+        foreach future<error?> worker in workers {
+            check wait worker;
+        }
+        decimal elapsed = time:monotonicNow() - startTime;
+        int totalOps = BENCHMARK_WORKERS * BENCHMARK_OPS_PER_WORKER;
+        io:println(string `maxConnections=${poolSize}: ${totalOps} GETs in ${elapsed}s, ` +
+                string `${(<decimal>totalOps / elapsed).round(2)} ops/s`);
+        check benchmarkClient.close();
+    }
+
+    check s3Client->deleteObject(testBucketName, objectKey);
+}
+
+@test:Config {
+    groups: ["benchmark"],
+    dependsOn: [testCreateBucket]
+}
+function benchmarkSyncVsAsyncClient() returns error? {
+    if !runBenchmarks {
+        return;
+    }
+    string objectKey = "benchmark/async/object.bin";
+    byte[] payload = from int i in 0 ..< BENCHMARK_OBJECT_SIZE select <byte>(i % 256);
+    check s3Client->putObject(testBucketName, objectKey, payload);
+
+    // Same pool size for both clients, with far more callers than connections
+    TransportConfig transport = {maxConnections: 128, connectionAcquisitionTimeout: 120};
+    map<Client> clients = {
+        "sync": check createTestClient({transport}),
+        "async": check createTestClient({transport, useAsyncClient: true})
+    };
+    foreach [string, Client] [mode, benchmarkClient] in clients.entries() {
+        decimal startTime = time:monotonicNow();
+        future<error?>[] workers = [];
+        foreach int _ in 0 ..< ASYNC_BENCHMARK_WORKERS {
+            future<error?> worker = start runPoolBenchmarkWorker(benchmarkClient, objectKey);
+            workers.push(worker);
+        }
+        foreach future<error?> worker in workers {
+            check wait worker;
+        }
+        decimal elapsed = time:monotonicNow() - startTime;
+        int totalOps = ASYNC_BENCHMARK_WORKERS * BENCHMARK_OPS_PER_WORKER;
+        io:println(string `${mode} client: ${totalOps} GETs from ${ASYNC_BENCHMARK_WORKERS} callers in ` +
+                string `${elapsed}s, ${(<decimal>totalOps / elapsed).round(2)} ops/s`);
+        check benchmarkClient.close();
+    }
+
+    check s3Client->deleteObject(testBucketName, objectKey);
+}
+
+@test:Config {
+    groups: ["benchmark"],
+    dependsOn: [testCreateBucket]
+}
+function benchmarkCrtTransfer() returns error? {
+    if !runBenchmarks {
+        return;
+    }
+    string objectKey = "benchmark/crt/object.bin";
+    string filePath = "./target/temp/resources/crt_benchmark.bin";
+    byte[] payload = from int i in 0 ..< TRANSFER_BENCHMARK_OBJECT_SIZE select <byte>(i % 256);
+    check io:fileWriteBytes(filePath, payload);
+
+    Client crtClient = check createTestClient({crtTransfer: {targetThroughputInGbps: 25}});
+    map<Client> clients = {"default": s3Client, "crt": crtClient};
+    foreach [string, Client] [mode, benchmarkClient] in clients.entries() {
+        decimal startTime = time:monotonicNow();
+        check benchmarkClient->putObjectFromFile(testBucketName, objectKey, filePath);
+        decimal uploadTime = time:monotonicNow() - startTime;
+
+        startTime = time:monotonicNow();
+        byte[] downloaded = check benchmarkClient->getObject(testBucketName, objectKey);
+        decimal downloadTime = time:monotonicNow() - startTime;
+        test:assertEquals(downloaded.length(), TRANSFER_BENCHMARK_OBJECT_SIZE);
+
+        decimal sizeInMb = <decimal>TRANSFER_BENCHMARK_OBJECT_SIZE / 1048576;
+        io:println(string `${mode} client: upload ${(sizeInMb / uploadTime).round(2)} MB/s, ` +
+                string `download ${(sizeInMb / downloadTime).round(2)} MB/s`);
+    }
+
+    check crtClient.close();
+    check s3Client->deleteObject(testBucketName, objectKey);
+    check io:fileWriteString(filePath, "");
+}
+
+@test:Config {
+    groups: ["benchmark"],
+    dependsOn: [testCreateBucket]
+}
+function benchmarkManagedTransfers() returns error? {
+    if !runBenchmarks {
+        return;
+    }
+    string objectKey = "benchmark/managed/object.bin";
+    string filePath = "./target/temp/resources/managed_benchmark.bin";
+    byte[] payload = from int i in 0 ..< TRANSFER_BENCHMARK_OBJECT_SIZE select <byte>(i % 256);
+    check io:fileWriteBytes(filePath, payload);
+    decimal sizeInMb = <decimal>TRANSFER_BENCHMARK_OBJECT_SIZE / 1048576;
+
+    decimal startTime = time:monotonicNow();
+    check s3Client->putObjectFromFile(testBucketName, objectKey, filePath);
+    decimal elapsed = time:monotonicNow() - startTime;
+    io:println(string `putObjectFromFile: ${(sizeInMb / elapsed).round(2)} MB/s`);
+
+    foreach int concurrency in [1, 4, 8, 16] {
+        startTime = time:monotonicNow();
+        check s3Client->uploadFile(testBucketName, objectKey, filePath, maxConcurrency = concurrency);
+        elapsed = time:monotonicNow() - startTime;
+        io:println(string `uploadFile maxConcurrency=${concurrency}: ${(sizeInMb / elapsed).round(2)} MB/s`);
+    }
+
+    startTime = time:monotonicNow();
+    byte[] _ = check s3Client->getObject(testBucketName, objectKey);
+    elapsed = time:monotonicNow() - startTime;
+    io:println(string `getObject: ${(sizeInMb / elapsed).round(2)} MB/s`);
+
+    foreach int concurrency in [1, 4, 8, 16] {
+        startTime = time:monotonicNow();
+        check s3Client->downloadFile(testBucketName, objectKey, filePath, maxConcurrency = concurrency);
+        elapsed = time:monotonicNow() - startTime;
+        io:println(string `downloadFile maxConcurrency=${concurrency}: ${(sizeInMb / elapsed).round(2)} MB/s`);
+    }
+
+    check s3Client->deleteObject(testBucketName, objectKey);
+    check io:fileWriteString(filePath, "");
+}
+
+@test:Config {
+    groups: ["benchmark"],
+    dependsOn: [testCreateBucket]
+}
+function benchmarkStreamChunkSize() returns error? {
+    if !runBenchmarks {
+        return;
+    }
+    string objectKey = "benchmark/stream/object.bin";
+    byte[] payload = from int i in 0 ..< TRANSFER_BENCHMARK_OBJECT_SIZE select <byte>(i % 256);
+    check s3Client->putLargeObject(testBucketName, objectKey, payload);
+    decimal sizeInMb = <decimal>TRANSFER_BENCHMARK_OBJECT_SIZE / 1048576;
+
+    foreach [int, int] [chunkSize, readAheadChunks] in [[4096, 0], [65536, 0], [1048576, 0], [1048576, 8]] {
+        decimal startTime = time:monotonicNow();
+        stream<byte[], error?> contentStream = check s3Client->getObjectAsStream(testBucketName, objectKey,
+                chunkSize = chunkSize, readAheadChunks = readAheadChunks);
+        int total = 0;
+        check from byte[] chunk in contentStream
+            do {
+                total += chunk.length();
+            };
+        decimal elapsed = time:monotonicNow() - startTime;
+        test:assertEquals(total, TRANSFER_BENCHMARK_OBJECT_SIZE);
+        io:println(string `getObjectAsStream chunkSize=${chunkSize} readAheadChunks=${readAheadChunks}: ` +
+                string `${(sizeInMb / elapsed).round(2)} MB/s`);
+    }
+
+    check s3Client->deleteObject(testBucketName, objectKey);
+}
+
+@test:Config {
+    groups: ["benchmark"],
+    dependsOn: [testCreateBucket]
+}
+function benchmarkUploadStreamChunkSize() returns error? {
+    if !runBenchmarks {
+        return;
+    }
+    string objectKey = "benchmark/upload-stream/object.bin";
+    decimal sizeInMb = <decimal>STREAM_BENCHMARK_OBJECT_SIZE / 1048576;
+
+    foreach int chunkSize in [1024, 8192, 65536] {
+        foreach int readAheadBuffers in [0, 8] {
+            stream<byte[], error?> content = new (new BenchmarkChunkProducer(chunkSize, STREAM_BENCHMARK_OBJECT_SIZE));
+            decimal startTime = time:monotonicNow();
+            check s3Client->putObjectAsStream(testBucketName, objectKey, content,
+                    contentLength = STREAM_BENCHMARK_OBJECT_SIZE, readAheadBuffers = readAheadBuffers);
+            decimal elapsed = time:monotonicNow() - startTime;
+            io:println(string `putObjectAsStream chunkSize=${chunkSize} readAheadBuffers=${readAheadBuffers}: ` +
+                    string `${(sizeInMb / elapsed).round(2)} MB/s`);
+        }
+    }
+
+    check s3Client->deleteObject(testBucketName, objectKey);
+}
+
+@test:Config {
+    groups: ["benchmark"],
+    dependsOn: [testCreateBucket]
+}
+function benchmarkListingRecordCreation() returns error? {
+    if !runBenchmarks {
+        return;
+    }
+    string prefix = "benchmark/listing/";
+    future<error?>[] uploads = [];
+    foreach int i in 0 ..< LISTING_BENCHMARK_KEYS {
+        future<error?> upload = start s3Client->putObject(testBucketName, string `${prefix}${i}`, "x");
+        uploads.push(upload);
+    }
+    foreach future<error?> upload in uploads {
+        check wait upload;
+    }
+
+    // Full 1000-key pages, with the records built natively
+    decimal startTime = time:monotonicNow();
+    ListObjectsResponse page = check s3Client->listObjects(testBucketName, prefix = prefix, maxKeys = 1000);
+    foreach int _ in 1 ..< LISTING_BENCHMARK_ITERATIONS {
+        page = check s3Client->listObjects(testBucketName, prefix = prefix, maxKeys = 1000);
+    }
+    decimal listElapsed = time:monotonicNow() - startTime;
+
+    // The JSON round trip that every page went through before the records were built natively
+    json pageJson = page.toJson();
+    startTime = time:monotonicNow();
+    foreach int _ in 0 ..< LISTING_BENCHMARK_ITERATIONS {
+        json copy = pageJson.clone();
+        ListObjectsResponse _ = check copy.fromJsonWithType();
+    }
+    decimal conversionElapsed = time:monotonicNow() - startTime;
+
+    io:println(string `listObjects with ${page.count} keys: ` +
+            string `${(listElapsed * 1000 / LISTING_BENCHMARK_ITERATIONS).round(2)} ms per page`);
+    io:println(string `Removed JSON conversion of ${page.count} keys: ` +
+            string `${(conversionElapsed * 1000 / LISTING_BENCHMARK_ITERATIONS).round(2)} ms per page`);
+
+    stream<S3Object, Error?> objects = check s3Client->listObjectsAsStream(testBucketName, prefix = prefix);
+    check from S3Object obj in objects
+        do {
+            check s3Client->deleteObject(testBucketName, obj.key);
+        };
+}
+
+@test:Config {
+    groups: ["benchmark"]
+}
+function benchmarkPresigning() returns error? {
+    if !runBenchmarks {
+        return;
+    }
+    string[] keys = from int i in 0 ..< 1000 select string `benchmark/presign/${i}.bin`;
+
+    decimal startTime = time:monotonicNow();
+    foreach string key in keys {
+        _ = check s3Client->createPresignedUrl(testBucketName, key);
+    }
+    decimal singleElapsed = time:monotonicNow() - startTime;
+
+    startTime = time:monotonicNow();
+    _ = check s3Client->createPresignedUrls(testBucketName, keys);
+    decimal batchElapsed = time:monotonicNow() - startTime;
+
+    io:println(string `createPresignedUrl x ${keys.length()}: ` +
+            string `${(singleElapsed * 1000000 / keys.length()).round(1)} us per URL`);
+    io:println(string `createPresignedUrls with ${keys.length()} keys: ` +
+            string `${(batchElapsed * 1000000 / keys.length()).round(1)} us per URL`);
+}
+
+// Produces the same chunk repeatedly, so that the measured time is spent in the upload rather than the producer
+class BenchmarkChunkProducer {
+    private final byte[] & readonly chunk;
+    private int remaining;
+
+    function init(int chunkSize, int totalSize) {
+        self.chunk = (from int i in 0 ..< chunkSize select <byte>(i % 256)).cloneReadOnly();
+        self.remaining = totalSize / chunkSize;
+    }
+
+    public function next() returns record {|byte[] value;|}|error? {
+        if self.remaining == 0 {
+            return;
+        }
+        self.remaining -= 1;
+        return {value: self.chunk};
+    }
+}
+
+function runPoolBenchmarkWorker(Client benchmarkClient, string objectKey) returns error? {
+    foreach int _ in 0 ..< BENCHMARK_OPS_PER_WORKER {
+        byte[] _ = check benchmarkClient->getObject(testBucketName, objectKey);
+    }
+}
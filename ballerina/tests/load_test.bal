@@ -0,0 +1,247 @@
+// Copyright (c) 2025 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/io;
+import ballerina/os;
+import ballerina/test;
+import ballerina/time;
+
+// Load tests only run when explicitly requested, e.g. `RUN_LOAD_TESTS=true bal test --groups load`.
+// Set S3_ENDPOINT to run them against a local S3-compatible stand-in. The load is configured with:
+//   LOAD_WORKERS         number of concurrent workers (default: 32)
+//   LOAD_DURATION        seconds of load for each object size (default: 30)
+//   LOAD_OBJECT_SIZES    comma separated object sizes in bytes (default: 16384,1048576)
+//   LOAD_MAX_CONNECTIONS connection pool size of the client (default: the number of workers)
+//   LOAD_ASYNC_CLIENT    "true" to use the non-blocking async client
+final boolean runLoadTests = os:getEnv("RUN_LOAD_TESTS") == "true";
+
+const string LOAD_TEST_PREFIX = "load/";
+const int LOAD_KEYS_PER_WORKER = 8;
+const int LOAD_LIST_PAGE_SIZE = 100;
+const int MIN_MULTIPART_PART_SIZE = 5242880;
+
+// Operations of one round of a worker, in the order they are run. Reads outnumber writes, as in most workloads
+final readonly & string[] loadOperationMix = [
+    "putObject", "getObject", "getObjectAsStream", "getObject", "listObjects",
+    "putObject", "getObject", "getObjectAsStream", "getObject", "multipartUpload"
+];
+
+// Latencies in seconds, transferred bytes and failures of one operation
+type OperationSamples record {|
+    decimal[] latencies = [];
+    int bytes = 0;
+    int errors = 0;
+    string? lastError = ();
+|};
+
+@test:Config {
+    groups: ["load"],
+    dependsOn: [testCreateBucket]
+}
+function loadTestMixedOperations() returns error? {
+    if !runLoadTests {
+        return;
+    }
+    int workerCount = getLoadTestSetting("LOAD_WORKERS", 32);
+    int duration = getLoadTestSetting("LOAD_DURATION", 30);
+    int maxConnections = getLoadTestSetting("LOAD_MAX_CONNECTIONS", workerCount);
+    boolean useAsyncClient = os:getEnv("LOAD_ASYNC_CLIENT") == "true";
+    Client loadClient = check createTestClient({
+        transport: {maxConnections, connectionAcquisitionTimeout: 120},
+        useAsyncClient
+    });
+
+    foreach int objectSize in check getLoadTestObjectSizes() {
+        byte[] & readonly payload = (from int i in 0 ..< objectSize select <byte>(i % 256)).cloneReadOnly();
+        string prefix = string `${LOAD_TEST_PREFIX}${objectSize}/`;
+        decimal startTime = time:monotonicNow();
+        decimal deadline = startTime + <decimal>duration;
+        future<map<OperationSamples>|error>[] workers = [];
+        foreach int worker in 0 ..< workerCount {
+            future<map<OperationSamples>|error> result = start runLoadTestWorker(loadClient,
+                    string `${prefix}${worker}/`, payload, deadline);
+            workers.push(result);
+        }
+        map<OperationSamples> samples = {};
+        foreach future<map<OperationSamples>|error> worker in workers {
+            mergeOperationSamples(samples, check wait worker);
+        }
+        decimal elapsed = time:monotonicNow() - startTime;
+        printLoadTestReport(string `workers=${workerCount} objectSize=${objectSize} ` +
+                string `maxConnections=${maxConnections} asyncClient=${useAsyncClient}`, samples, elapsed);
+        check deleteLoadTestObjects(loadClient, prefix);
+    }
+    check loadClient.close();
+}
+
+// Runs rounds of the operation mix until the deadline. The keys of the worker are written before the first round,
+// so that reads never miss
+function runLoadTestWorker(Client loadClient, string prefix, byte[] & readonly payload, decimal deadline)
+        returns map<OperationSamples>|error {
+    map<OperationSamples> samples = {};
+    foreach string operation in loadOperationMix {
+        samples[operation] = {};
+    }
+    foreach int i in 0 ..< LOAD_KEYS_PER_WORKER {
+        check loadClient->putObject(testBucketName, string `${prefix}${i}`, payload);
+    }
+
+    int round = 0;
+    while time:monotonicNow() < deadline {
+        foreach string operation in loadOperationMix {
+            string objectKey = string `${prefix}${round % LOAD_KEYS_PER_WORKER}`;
+            OperationSamples operationSamples = samples.get(operation);
+            decimal startTime = time:monotonicNow();
+            int|error bytes = runLoadTestOperation(loadClient, operation, prefix, objectKey, payload);
+            decimal latency = time:monotonicNow() - startTime;
+            if bytes is error {
+                operationSamples.errors += 1;
+                operationSamples.lastError = bytes.message();
+            } else {
+                operationSamples.latencies.push(latency);
+                operationSamples.bytes += bytes;
+            }
+        }
+        round += 1;
+    }
+    return samples;
+}
+
+// Runs one operation and returns the number of bytes of object content that it transferred
+function runLoadTestOperation(Client loadClient, string operation, string prefix, string objectKey,
+        byte[] & readonly payload) returns int|error {
+    match operation {
+        "putObject" => {
+            check loadClient->putObject(testBucketName, objectKey, payload);
+            return payload.length();
+        }
+        "getObject" => {
+            byte[] content = check loadClient->getObject(testBucketName, objectKey);
+            return content.length();
+        }
+        "getObjectAsStream" => {
+            stream<byte[], error?> contentStream = check loadClient->getObjectAsStream(testBucketName, objectKey,
+                    chunkSize = 65536);
+            int total = 0;
+            check from byte[] chunk in contentStream
+                do {
+                    total += chunk.length();
+                };
+            return total;
+        }
+        "listObjects" => {
+            ListObjectsResponse _ = check loadClient->listObjects(testBucketName, prefix = prefix,
+                    maxKeys = LOAD_LIST_PAGE_SIZE);
+            return 0;
+        }
+        "multipartUpload" => {
+            return runLoadTestMultipartUpload(loadClient, objectKey, payload);
+        }
+    }
+    return error(string `Unknown load test operation: ${operation}`);
+}
+
+// Uploads the payload in two parts when it is large enough for a non-final part, and in one part otherwise
+function runLoadTestMultipartUpload(Client loadClient, string objectKey, byte[] & readonly payload)
+        returns int|error {
+    int[] boundaries = payload.length() >= 2 * MIN_MULTIPART_PART_SIZE
+        ? [0, payload.length() / 2, payload.length()] : [0, payload.length()];
+    string uploadId = check loadClient->createMultipartUpload(testBucketName, objectKey);
+    int[] partNumbers = [];
+    string[] etags = [];
+    foreach int i in 1 ..< boundaries.length() {
+        string|Error etag = loadClient->uploadPart(testBucketName, objectKey, uploadId, i,
+                payload.slice(boundaries[i - 1], boundaries[i]));
+        if etag is Error {
+            check loadClient->abortMultipartUpload(testBucketName, objectKey, uploadId);
+            return etag;
+        }
+        partNumbers.push(i);
+        etags.push(etag);
+    }
+    check loadClient->completeMultipartUpload(testBucketName, objectKey, uploadId, partNumbers, etags);
+    return payload.length();
+}
+
+function mergeOperationSamples(map<OperationSamples> target, map<OperationSamples> samples) {
+    foreach [string, OperationSamples] [operation, operationSamples] in samples.entries() {
+        OperationSamples merged = target[operation] ?: {};
+        merged.latencies.push(...operationSamples.latencies);
+        merged.bytes += operationSamples.bytes;
+        merged.errors += operationSamples.errors;
+        merged.lastError = operationSamples.lastError ?: merged.lastError;
+        target[operation] = merged;
+    }
+}
+
+function printLoadTestReport(string title, map<OperationSamples> samples, decimal elapsed) {
+    io:println(string `Load test ${title}: ${elapsed.round(2)}s`);
+    int totalOps = 0;
+    int totalBytes = 0;
+    foreach [string, OperationSamples] [operation, operationSamples] in samples.entries() {
+        decimal[] latencies = operationSamples.latencies.sort();
+        int ops = latencies.length();
+        totalOps += ops;
+        totalBytes += operationSamples.bytes;
+        io:println(string `  ${operation}: ${ops} ops, ${(<decimal>ops / elapsed).round(2)} ops/s, ` +
+                string `${toMegabytesPerSecond(operationSamples.bytes, elapsed)} MB/s, ` +
+                string `p50 ${toMillis(percentile(latencies, 0.5))} ms, ` +
+                string `p90 ${toMillis(percentile(latencies, 0.9))} ms, ` +
+                string `p99 ${toMillis(percentile(latencies, 0.99))} ms, ` +
+                string `max ${toMillis(percentile(latencies, 1))} ms, ${operationSamples.errors} errors`);
+        string? lastError = operationSamples.lastError;
+        if lastError is string {
+            io:println(string `    last error: ${lastError}`);
+        }
+    }
+    io:println(string `  total: ${totalOps} ops, ${(<decimal>totalOps / elapsed).round(2)} ops/s, ` +
+            string `${toMegabytesPerSecond(totalBytes, elapsed)} MB/s`);
+}
+
+// Nearest-rank percentile of sorted latencies
+function percentile(decimal[] sortedLatencies, decimal fraction) returns decimal {
+    if sortedLatencies.length() == 0 {
+        return 0;
+    }
+    int rank = <int>(fraction * <decimal>sortedLatencies.length()).ceiling();
+    return sortedLatencies[int:max(rank, 1) - 1];
+}
+
+function toMillis(decimal seconds) returns decimal => (seconds * 1000).round(2);
+
+function toMegabytesPerSecond(int bytes, decimal elapsed) returns decimal =>
+    (<decimal>bytes / 1048576 / elapsed).round(2);
+
+function getLoadTestSetting(string name, int defaultValue) returns int {
+    int|error value = int:fromString(os:getEnv(name));
+    return value is int && value > 0 ? value : defaultValue;
+}
+
+function getLoadTestObjectSizes() returns int[]|error {
+    string sizes = os:getEnv("LOAD_OBJECT_SIZES");
+    if sizes == "" {
+        return [16384, 1048576];
+    }
+    return from string size in re `,`.split(sizes) select check int:fromString(size.trim());
+}
+
+function deleteLoadTestObjects(Client loadClient, string prefix) returns error? {
+    stream<S3Object, Error?> objects = check loadClient->listObjectsAsStream(testBucketName, prefix = prefix);
+    string[] keys = check from S3Object obj in objects select obj.key;
+    foreach string key in keys {
+        check loadClient->deleteObject(testBucketName, key);
+    }
+}
@@ -644,7 +644,7 @@ function testAccessBucketWithDifferentRegion() returns error? {
     Region differentRegion = awsRegion == US_EAST_1 ? US_WEST_2 : US_EAST_1;
 
     // Use helper function to create client with proper auth handling
-    Client differentRegionClient = check createS3ClientWithRegion(differentRegion);
+    Client differentRegionClient = check createTestClient({region: differentRegion});
 
     // Cross-region access is enabled via the AWS SDK's crossRegionAccessEnabled feature.
     // The SDK automatically detects the bucket's actual region and routes requests there.
@@ -1218,6 +1218,675 @@ function testAbortFileUpload() returns error? {
     test:assertFalse(exists, msg = "Object should not exist after aborting multipart upload");
 }
 
+@test:Config {
+    dependsOn: [testCreateBucket]
+}
+function testAsyncClientObjectOperations() returns error? {
+    Client asyncClient = check createTestClient({useAsyncClient: true});
+    string objectKey = "async-client/test.txt";
+    string content = "Content uploaded with the async client";
+
+    check asyncClient->putObject(testBucketName, objectKey, content);
+    boolean exists = check asyncClient->doesObjectExist(testBucketName, objectKey);
+    test:assertTrue(exists, msg = "Object uploaded with the async client should exist");
+
+    string text = check asyncClient->getObjectAsText(testBucketName, objectKey);
+    test:assertEquals(text, content, msg = "Content mismatch when reading with the async client");
+
+    stream<byte[], error?> contentStream = check asyncClient->getObjectAsStream(testBucketName, objectKey);
+    byte[] streamed = [];
+    check from byte[] chunk in contentStream
+        do {
+            streamed.push(...chunk);
+        };
+    test:assertEquals(check string:fromBytes(streamed), content, msg = "Streamed content mismatch");
+
+    byte[]|Error missing = asyncClient->getObject(testBucketName, "async-client/missing.txt");
+    test:assertTrue(missing is NoSuchKeyError, msg = "Expected NoSuchKeyError from the async client");
+
+    check asyncClient->deleteObject(testBucketName, objectKey);
+    check asyncClient.close();
+}
+
+@test:Config {
+    dependsOn: [testCreateBucket]
+}
+function testCrtTransferLargeObject() returns error? {
+    // Small minimum part size so that the object is split into several parallel parts
+    Client crtClient = check createTestClient({crtTransfer: {minimumPartSize: 5242880}});
+    string objectKey = "crt-transfer/large.bin";
+    string tempFilePath = "./target/temp/resources/crt_upload_file.bin";
+    byte[] fileContent = from int i in 0 ..< 12582912 select <byte>(i % 251);
+    check io:fileWriteBytes(tempFilePath, fileContent);
+
+    check crtClient->putObjectFromFile(testBucketName, objectKey, tempFilePath);
+
+    byte[] downloaded = check crtClient->getObject(testBucketName, objectKey);
+    test:assertEquals(downloaded.length(), fileContent.length(), msg = "Downloaded size mismatch");
+    test:assertEquals(downloaded, fileContent, msg = "Downloaded content mismatch");
+
+    stream<byte[], error?> contentStream = check crtClient->getObjectAsStream(testBucketName, objectKey);
+    int streamedLength = 0;
+    check from byte[] chunk in contentStream
+        do {
+            streamedLength += chunk.length();
+        };
+    test:assertEquals(streamedLength, fileContent.length(), msg = "Streamed size mismatch");
+
+    check crtClient->deleteObject(testBucketName, objectKey);
+    check io:fileWriteString(tempFilePath, "");
+    check crtClient.close();
+}
+
+@test:Config {
+    dependsOn: [testCreateBucket]
+}
+function testUploadFileInParallelParts() returns error? {
+    string objectKey = "managed-upload/file.bin";
+    string tempFilePath = "./target/temp/resources/managed_upload_file.bin";
+    // Three parts of 5 MiB, the last one partial
+    byte[] fileContent = from int i in 0 ..< 12582912 select <byte>(i % 253);
+    check io:fileWriteBytes(tempFilePath, fileContent);
+
+    check s3Client->uploadFile(testBucketName, objectKey, tempFilePath, partSize = 5242880, maxConcurrency = 3,
+            contentType = "application/octet-stream", metadata = {"source": "managed-upload"});
+
+    ObjectMetadata metadata = check s3Client->headObject(testBucketName, objectKey);
+    test:assertEquals(metadata.contentLength, fileContent.length(), msg = "Uploaded object size mismatch");
+    map<anydata> userMetadata = metadata.userMetadata ?: {};
+    test:assertEquals(userMetadata["source"], "managed-upload", msg = "User metadata not applied");
+    test:assertTrue(metadata.eTag.includes("-3"), msg = "Expected a multipart ETag with 3 parts");
+
+    byte[] downloaded = check s3Client->getObject(testBucketName, objectKey);
+    test:assertEquals(downloaded, fileContent, msg = "Uploaded file content mismatch");
+
+    check s3Client->deleteObject(testBucketName, objectKey);
+    check io:fileWriteString(tempFilePath, "");
+}
+
+@test:Config {
+    dependsOn: [testCreateBucket]
+}
+function testPutLargeObject() returns error? {
+    string objectKey = "managed-upload/content.bin";
+    byte[] content = from int i in 0 ..< 11534336 select <byte>(i % 241);
+
+    check s3Client->putLargeObject(testBucketName, objectKey, content, partSize = 5242880);
+    byte[] downloaded = check s3Client->getObject(testBucketName, objectKey);
+    test:assertEquals(downloaded, content, msg = "Uploaded content mismatch");
+
+    // Content that fits in one part is uploaded with a single request
+    check s3Client->putLargeObject(testBucketName, objectKey, "small content");
+    string text = check s3Client->getObjectAsText(testBucketName, objectKey);
+    test:assertEquals(text, "small content", msg = "Single part content mismatch");
+
+    check s3Client->deleteObject(testBucketName, objectKey);
+}
+
+@test:Config {
+    dependsOn: [testCreateBucket]
+}
+function testPutLargeObjectWithInvalidPartSize() returns error? {
+    Error? result = s3Client->putLargeObject(testBucketName, "managed-upload/invalid.bin", "content",
+            partSize = 1024);
+    test:assertTrue(result is Error, msg = "Expected an error for a part size below 5 MiB");
+}
+
+@test:Config {
+    dependsOn: [testCreateBucket]
+}
+function testParallelDownload() returns error? {
+    string objectKey = "parallel-download/object.bin";
+    string downloadPath = "./target/temp/resources/parallel_download.bin";
+    byte[] content = from int i in 0 ..< 13631488 select <byte>(i % 239);
+    check s3Client->putLargeObject(testBucketName, objectKey, content, partSize = 5242880);
+
+    // Fixed size ranges that do not line up with the uploaded parts
+    byte[] downloaded = check s3Client->getLargeObject(testBucketName, objectKey, partSize = 3000000,
+            maxConcurrency = 4);
+    test:assertEquals(downloaded, content, msg = "Ranged download content mismatch");
+
+    // Ranges that follow the multipart layout of the object
+    check s3Client->downloadFile(testBucketName, objectKey, downloadPath, usePartLayout = true);
+    byte[] fileContent = check io:fileReadBytes(downloadPath);
+    test:assertEquals(fileContent, content, msg = "Downloaded file content mismatch");
+
+    stream<byte[], error?> contentStream = check s3Client->getLargeObjectAsStream(testBucketName, objectKey,
+            partSize = 5242880, maxConcurrency = 2);
+    byte[] streamed = [];
+    check from byte[] chunk in contentStream
+        do {
+            streamed.push(...chunk);
+        };
+    test:assertEquals(streamed, content, msg = "Streamed content mismatch");
+
+    check s3Client->deleteObject(testBucketName, objectKey);
+    check io:fileWriteString(downloadPath, "");
+}
+
+@test:Config {
+    dependsOn: [testCreateBucket]
+}
+function testParallelDownloadOfMissingObject() returns error? {
+    byte[]|Error result = s3Client->getLargeObject(testBucketName, "parallel-download/missing.bin");
+    test:assertTrue(result is Error, msg = "Expected an error for a missing object");
+}
+
+@test:Config {
+    dependsOn: [testCreateBucket]
+}
+function testGetObjectToFile() returns error? {
+    string objectKey = "object-to-file/data.bin";
+    string downloadPath = "./target/temp/resources/object_to_file.bin";
+    byte[] content = from int i in 0 ..< 1048576 select <byte>(i % 233);
+    check s3Client->putObject(testBucketName, objectKey, content);
+
+    int bytesWritten = check s3Client->getObjectToFile(testBucketName, objectKey, downloadPath);
+    test:assertEquals(bytesWritten, content.length(), msg = "Reported bytes written mismatch");
+    test:assertEquals(check io:fileReadBytes(downloadPath), content, msg = "Downloaded file content mismatch");
+
+    // Atomic mode replaces the existing file
+    bytesWritten = check s3Client->getObjectToFile(testBucketName, objectKey, downloadPath, atomic = true,
+            range = "bytes=0-99");
+    test:assertEquals(bytesWritten, 100, msg = "Reported bytes written mismatch for ranged download");
+    test:assertEquals(check io:fileReadBytes(downloadPath), content.slice(0, 100),
+            msg = "Atomically replaced file content mismatch");
+
+    // A failed atomic download leaves the existing file untouched
+    int|Error result = s3Client->getObjectToFile(testBucketName, "object-to-file/missing.bin", downloadPath,
+            atomic = true);
+    test:assertTrue(result is NoSuchKeyError, msg = "Expected NoSuchKeyError for a missing object");
+    test:assertEquals(check io:fileReadBytes(downloadPath), content.slice(0, 100),
+            msg = "Existing file changed by a failed atomic download");
+
+    check s3Client->deleteObject(testBucketName, objectKey);
+    check io:fileWriteString(downloadPath, "");
+}
+
+@test:Config {
+    dependsOn: [testCreateBucket]
+}
+function testGetObjectAsStreamWithChunkSize() returns error? {
+    string objectKey = "stream-chunks/data.bin";
+    byte[] content = from int i in 0 ..< 300000 select <byte>(i % 229);
+    check s3Client->putObject(testBucketName, objectKey, content);
+
+    foreach int readAheadChunks in [0, 4] {
+        stream<byte[], error?> contentStream = check s3Client->getObjectAsStream(testBucketName, objectKey,
+                chunkSize = 65536, readAheadChunks = readAheadChunks);
+        byte[] streamed = [];
+        int[] chunkSizes = [];
+        check from byte[] chunk in contentStream
+            do {
+                chunkSizes.push(chunk.length());
+                streamed.push(...chunk);
+            };
+        test:assertEquals(chunkSizes, [65536, 65536, 65536, 65536, 37856],
+                msg = string `Unexpected chunk sizes with readAheadChunks=${readAheadChunks}`);
+        test:assertEquals(streamed, content, msg = string `Content mismatch with readAheadChunks=${readAheadChunks}`);
+    }
+
+    // Closing a read-ahead stream before the end releases it
+    stream<byte[], error?> partialStream = check s3Client->getObjectAsStream(testBucketName, objectKey,
+            chunkSize = 4096, readAheadChunks = 2);
+    record {|byte[] value;|}? first = check partialStream.next();
+    test:assertTrue(first is record {|byte[] value;|}, msg = "Expected a first chunk");
+    check partialStream.close();
+
+    stream<byte[], error?>|Error invalid = s3Client->getObjectAsStream(testBucketName, objectKey, chunkSize = 0);
+    test:assertTrue(invalid is Error, msg = "Expected an error for a non-positive chunk size");
+
+    check s3Client->deleteObject(testBucketName, objectKey);
+}
+
+@test:Config {
+    dependsOn: [testCreateBucket]
+}
+function testPutObjectAsStreamWithUnknownLength() returns error? {
+    string objectKey = "stream-upload/unknown-length.bin";
+    string tempFilePath = "./target/temp/resources/unknown_length_stream.bin";
+
+    // Content smaller than a part is uploaded with a single request
+    check io:fileWriteString(tempFilePath, "small streamed content");
+    stream<io:Block, io:Error?> smallStream = check io:fileReadBlocksAsStream(tempFilePath, 4);
+    check s3Client->putObjectAsStream(testBucketName, objectKey, smallStream);
+    string text = check s3Client->getObjectAsText(testBucketName, objectKey);
+    test:assertEquals(text, "small streamed content", msg = "Single part stream content mismatch");
+
+    // Larger content is split into parts of partSize as the stream is read
+    byte[] content = from int i in 0 ..< 12582912 select <byte>(i % 227);
+    check io:fileWriteBytes(tempFilePath, content);
+    stream<io:Block, io:Error?> largeStream = check io:fileReadBlocksAsStream(tempFilePath, 65536);
+    check s3Client->putObjectAsStream(testBucketName, objectKey, largeStream, partSize = 5242880,
+            maxConcurrency = 2);
+    ObjectMetadata metadata = check s3Client->headObject(testBucketName, objectKey);
+    test:assertTrue(metadata.eTag.includes("-3"), msg = "Expected a multipart ETag with 3 parts");
+    byte[] downloaded = check s3Client->getObject(testBucketName, objectKey);
+    test:assertEquals(downloaded, content, msg = "Multipart stream content mismatch");
+
+    check s3Client->deleteObject(testBucketName, objectKey);
+    check io:fileWriteString(tempFilePath, "");
+}
+
+@test:Config {
+    dependsOn: [testCreateBucket]
+}
+function testPutObjectAsStreamWithReadAhead() returns error? {
+    string objectKey = "stream-upload/read-ahead.bin";
+    string tempFilePath = "./target/temp/resources/read_ahead_stream.bin";
+    byte[] content = from int i in 0 ..< 1000000 select <byte>(i % 223);
+    check io:fileWriteBytes(tempFilePath, content);
+
+    // Small chunks that are coalesced into larger buffers while they are read ahead
+    stream<io:Block, io:Error?> fileStream = check io:fileReadBlocksAsStream(tempFilePath, 1000);
+    check s3Client->putObjectAsStream(testBucketName, objectKey, fileStream, contentLength = content.length(),
+            readAheadBuffers = 4, coalesceSize = 16384);
+    byte[] downloaded = check s3Client->getObject(testBucketName, objectKey);
+    test:assertEquals(downloaded, content, msg = "Read-ahead stream content mismatch");
+
+    // Read-ahead also applies to streams of unknown length
+    fileStream = check io:fileReadBlocksAsStream(tempFilePath, 1000);
+    check s3Client->putObjectAsStream(testBucketName, objectKey, fileStream, readAheadBuffers = 4);
+    downloaded = check s3Client->getObject(testBucketName, objectKey);
+    test:assertEquals(downloaded, content, msg = "Read-ahead stream of unknown length content mismatch");
+
+    check s3Client->deleteObject(testBucketName, objectKey);
+    check io:fileWriteString(tempFilePath, "");
+}
+
+@test:Config {
+    dependsOn: [testCreateBucket]
+}
+function testListObjectsAsStream() returns error? {
+    string prefix = "list-stream/";
+    foreach int i in 0 ..< 5 {
+        check s3Client->putObject(testBucketName, string `${prefix}object-${i}.txt`, string `content ${i}`);
+    }
+
+    // Two objects per page, so the stream spans several pages
+    stream<S3Object, Error?> objects = check s3Client->listObjectsAsStream(testBucketName, prefix = prefix,
+            maxKeys = 2);
+    string[] keys = check from S3Object obj in objects select obj.key;
+    test:assertEquals(keys, from int i in 0 ..< 5 select string `${prefix}object-${i}.txt`,
+            msg = "Streamed listing mismatch");
+
+    objects = check s3Client->listObjectsAsStream(testBucketName, prefix = prefix, maxKeys = 2, maxObjects = 3);
+    keys = check from S3Object obj in objects select obj.key;
+    test:assertEquals(keys.length(), 3, msg = "Streamed listing did not stop at maxObjects");
+
+    foreach int i in 0 ..< 5 {
+        check s3Client->deleteObject(testBucketName, string `${prefix}object-${i}.txt`);
+    }
+}
+
+@test:Config {
+    dependsOn: [testCreateBucket]
+}
+function testListObjectsInParallel() returns error? {
+    string prefix = "parallel-list/";
+    string[] expectedKeys = [];
+    foreach string folder in ["a", "b", "c"] {
+        foreach int i in 0 ..< 3 {
+            expectedKeys.push(string `${prefix}${folder}/object-${i}.txt`);
+        }
+        expectedKeys.push(string `${prefix}${folder}.txt`);
+    }
+    foreach string key in expectedKeys {
+        check s3Client->putObject(testBucketName, key, "content");
+    }
+    expectedKeys = expectedKeys.sort();
+
+    ListObjectsResponse response = check s3Client->listObjects(testBucketName, prefix = prefix, delimiter = "/");
+    test:assertEquals(response.commonPrefixes, [prefix + "a/", prefix + "b/", prefix + "c/"],
+            msg = "Common prefixes mismatch");
+
+    // Partitions discovered from the prefix tree, merged in key order
+    stream<S3Object, Error?> objects = check s3Client->listObjectsInParallel(testBucketName, prefix = prefix,
+            maxKeys = 2);
+    string[] keys = check from S3Object obj in objects select obj.key;
+    test:assertEquals(keys, expectedKeys, msg = "Ordered parallel listing mismatch");
+
+    // Partitions split at key boundaries, in arrival order
+    objects = check s3Client->listObjectsInParallel(testBucketName, prefix = prefix,
+            partitionBoundaries = [prefix + "a/object-1.txt", prefix + "b/"], ordered = false);
+    keys = check from S3Object obj in objects select obj.key;
+    test:assertEquals(keys.sort(), expectedKeys, msg = "Unordered parallel listing mismatch");
+
+    objects = check s3Client->listObjectsInParallel(testBucketName, prefix = prefix, maxObjects = 5);
+    keys = check from S3Object obj in objects select obj.key;
+    test:assertEquals(keys, expectedKeys.slice(0, 5), msg = "Parallel listing did not stop at maxObjects");
+
+    foreach string key in expectedKeys {
+        check s3Client->deleteObject(testBucketName, key);
+    }
+}
+
+@test:Config {
+    dependsOn: [testCreateBucket]
+}
+function testDeleteObjects() returns error? {
+    string prefix = "batch-delete/";
+    string[] keys = from int i in 0 ..< 10 select string `${prefix}object-${i}.txt`;
+    foreach string key in keys {
+        check s3Client->putObject(testBucketName, key, "content");
+    }
+
+    DeleteObjectsResult result = check s3Client->deleteObjects(testBucketName, keys.slice(0, 4));
+    test:assertEquals(result.deletedCount, 4, msg = "Batch delete count mismatch");
+    test:assertEquals(result.errors.length(), 0, msg = "Batch delete returned errors");
+    test:assertFalse(check s3Client->doesObjectExist(testBucketName, keys[0]), msg = "Object was not deleted");
+
+    DeleteProgressListener listener = isolated function(DeleteProgress _) {
+        lock {
+            deleteProgressUpdates += 1;
+        }
+    };
+    result = check s3Client->deleteByPrefix(testBucketName, prefix, progressListener = listener);
+    test:assertEquals(result.deletedCount, 6, msg = "Delete by prefix count mismatch");
+    int updates;
+    lock {
+        updates = deleteProgressUpdates;
+    }
+    test:assertTrue(updates > 0, msg = "Progress was not reported");
+
+    ListObjectsResponse remaining = check s3Client->listObjects(testBucketName, prefix = prefix);
+    test:assertEquals(remaining.count, 0, msg = "Objects remain after delete by prefix");
+}
+
+isolated int deleteProgressUpdates = 0;
+
+@test:Config {
+    dependsOn: [testCreateBucket]
+}
+function testBatchObjectChecks() returns error? {
+    string existingKey = "batch-head/existing.txt";
+    string missingKey = "batch-head/missing.txt";
+    check s3Client->putObject(testBucketName, existingKey, "content");
+
+    map<boolean|Error> exists = check s3Client->doObjectsExist(testBucketName, [existingKey, missingKey],
+            maxConcurrency = 2);
+    test:assertEquals(exists[existingKey], true, msg = "Existing object not found");
+    test:assertEquals(exists[missingKey], false, msg = "Missing object reported as existing");
+
+    map<ObjectMetadata|Error> metadata = check s3Client->getObjectsMetadata(testBucketName, [existingKey, missingKey]);
+    ObjectMetadata|Error existingMetadata = metadata.get(existingKey);
+    if existingMetadata is Error {
+        test:assertFail("Failed to get metadata: " + existingMetadata.message());
+    }
+    test:assertEquals(existingMetadata.contentLength, 7, msg = "Content length mismatch");
+    test:assertTrue(metadata.get(missingKey) is Error, msg = "Missing object did not return an error");
+
+    check s3Client->deleteObject(testBucketName, existingKey);
+}
+
+@test:Config {
+    dependsOn: [testCreateBucket]
+}
+function testCopyLargeObject() returns error? {
+    string sourceKey = "large-copy/source.bin";
+    string destinationKey = "large-copy/destination.bin";
+    // Three parts of 5 MiB, the last one partial
+    byte[] content = from int i in 0 ..< 12582912 select <byte>(i % 251);
+    check s3Client->putObject(testBucketName, sourceKey, content, contentType = "application/x-test",
+            metadata = {"origin": "large-copy"});
+
+    check s3Client->copyLargeObject(testBucketName, sourceKey, testBucketName, destinationKey, partSize = 5242880);
+    byte[] copied = check s3Client->getObject(testBucketName, destinationKey);
+    test:assertEquals(copied, content, msg = "Copied content mismatch");
+    ObjectMetadata metadata = check s3Client->getObjectMetadata(testBucketName, destinationKey);
+    test:assertEquals(metadata.contentType, "application/x-test", msg = "Content type was not copied");
+    test:assertEquals(metadata.userMetadata, {"origin": "large-copy"}, msg = "Metadata was not copied");
+
+    check s3Client->deleteObject(testBucketName, sourceKey);
+    check s3Client->deleteObject(testBucketName, destinationKey);
+}
+
+@test:Config {
+    dependsOn: [testCreateBucket]
+}
+function testSyncPrefix() returns error? {
+    string sourcePrefix = "sync/source/";
+    string destinationPrefix = "sync/destination/";
+    check s3Client->putObject(testBucketName, sourcePrefix + "same.txt", "same");
+    check s3Client->putObject(testBucketName, sourcePrefix + "changed.txt", "new content");
+    check s3Client->putObject(testBucketName, sourcePrefix + "missing.txt", "missing");
+    check s3Client->copyObject(testBucketName, sourcePrefix + "same.txt", testBucketName,
+            destinationPrefix + "same.txt");
+    check s3Client->putObject(testBucketName, destinationPrefix + "changed.txt", "old content");
+    check s3Client->putObject(testBucketName, destinationPrefix + "extra.txt", "extra");
+
+    SyncResult result = check s3Client->syncPrefix(testBucketName, sourcePrefix, testBucketName, destinationPrefix,
+            deleteExtras = true);
+    test:assertEquals(result.copiedObjects, 2, msg = "Copied object count mismatch");
+    test:assertEquals(result.copiedBytes, 18, msg = "Copied byte count mismatch");
+    test:assertEquals(result.skippedObjects, 1, msg = "Skipped object count mismatch");
+    test:assertEquals(result.deletedObjects, 1, msg = "Deleted object count mismatch");
+    test:assertEquals(result.failures.length(), 0, msg = "Sync returned failures");
+
+    string changed = check s3Client->getObjectAsText(testBucketName, destinationPrefix + "changed.txt");
+    test:assertEquals(changed, "new content", msg = "Changed object was not copied");
+    test:assertFalse(check s3Client->doesObjectExist(testBucketName, destinationPrefix + "extra.txt"),
+            msg = "Extra object was not deleted");
+
+    SyncResult|Error nested = s3Client->syncPrefix(testBucketName, sourcePrefix, testBucketName,
+            sourcePrefix + "copy/");
+    test:assertTrue(nested is Error, msg = "Sync to a nested prefix in the same bucket was accepted");
+
+    _ = check s3Client->deleteByPrefix(testBucketName, "sync/");
+}
+
+@test:Config {
+    dependsOn: [testCreateBucket]
+}
+function testCreatePresignedUrls() returns error? {
+    string[] keys = ["presign/a.txt", "presign/b.txt"];
+    map<string> urls = check s3Client->createPresignedUrls(testBucketName, keys, expirationMinutes = 30);
+    test:assertEquals(urls.length(), 2, msg = "Presigned URL count mismatch");
+    foreach string key in keys {
+        test:assertTrue(urls.get(key).includes(key), msg = "Presigned URL does not reference its key");
+    }
+
+    // The presigner is reused across calls
+    string url = check s3Client->createPresignedUrl(testBucketName, keys[0], expirationMinutes = 30);
+    test:assertTrue(url.includes(keys[0]), msg = "Presigned URL does not reference its key");
+}
+
+@test:Config {
+    dependsOn: [testCreateBucket]
+}
+function testMetadataCache() returns error? {
+    Client cachedClient = check createTestClient({metadataCache: {maxEntries: 2, ttl: 60, negativeTtl: 60}});
+    string objectKey = "metadata-cache/object.txt";
+    string missingKey = "metadata-cache/missing.txt";
+    check cachedClient->putObject(testBucketName, objectKey, "first");
+
+    ObjectMetadata first = check cachedClient->getObjectMetadata(testBucketName, objectKey);
+    ObjectMetadata cached = check cachedClient->getObjectMetadata(testBucketName, objectKey);
+    test:assertEquals(cached.eTag, first.eTag, msg = "Cached metadata mismatch");
+    test:assertFalse(check cachedClient->doesObjectExist(testBucketName, missingKey));
+    test:assertFalse(check cachedClient->doesObjectExist(testBucketName, missingKey));
+    MetadataCacheStats? stats = cachedClient.getMetadataCacheStats();
+    if stats is () {
+        test:assertFail("Metadata cache is not enabled");
+    }
+    test:assertEquals(stats.hits, 2, msg = "Cache hit count mismatch");
+    test:assertEquals(stats.misses, 2, msg = "Cache miss count mismatch");
+
+    // A write through the client invalidates the cached entry
+    check cachedClient->putObject(testBucketName, objectKey, "second, longer content");
+    ObjectMetadata updated = check cachedClient->getObjectMetadata(testBucketName, objectKey);
+    test:assertEquals(updated.contentLength, 22, msg = "Metadata was not invalidated by the write");
+    check cachedClient->putObject(testBucketName, missingKey, "created");
+    test:assertTrue(check cachedClient->doesObjectExist(testBucketName, missingKey));
+
+    check cachedClient->deleteObject(testBucketName, objectKey);
+    test:assertFalse(check cachedClient->doesObjectExist(testBucketName, objectKey));
+    check cachedClient->deleteObject(testBucketName, missingKey);
+    test:assertTrue(s3Client.getMetadataCacheStats() is (), msg = "Client without cache returned stats");
+    check cachedClient.close();
+}
+
+@test:Config {
+    dependsOn: [testCreateBucket]
+}
+function testContentCache() returns error? {
+    Client cachedClient = check createTestClient({
+        contentCache: {directory: "./target/temp/content-cache", maxBytes: 1048576}
+    });
+    string objectKey = "content-cache/object.txt";
+    check cachedClient->putObject(testBucketName, objectKey, "cached content");
+
+    // The first read downloads the object and the second one is served from disk after revalidation
+    test:assertEquals(check cachedClient->getObjectAsText(testBucketName, objectKey), "cached content");
+    test:assertEquals(check cachedClient->getObjectAsText(testBucketName, objectKey), "cached content");
+    byte[] streamed = [];
+    stream<byte[], error?> contentStream = check cachedClient->getObjectAsStream(testBucketName, objectKey,
+            chunkSize = 4);
+    check from byte[] chunk in contentStream
+        do {
+            streamed.push(...chunk);
+        };
+    test:assertEquals(check string:fromBytes(streamed), "cached content", msg = "Streamed cached content mismatch");
+
+    // A changed object has a new ETag, so the cached copy is replaced
+    check s3Client->putObject(testBucketName, objectKey, "changed content");
+    test:assertEquals(check cachedClient->getObjectAsText(testBucketName, objectKey), "changed content");
+    stream<byte[], error?> changedStream = check cachedClient->getObjectAsStream(testBucketName, objectKey);
+    byte[] changed = [];
+    check from byte[] chunk in changedStream
+        do {
+            changed.push(...chunk);
+        };
+    test:assertEquals(check string:fromBytes(changed), "changed content", msg = "Streamed changed content mismatch");
+
+    check s3Client->deleteObject(testBucketName, objectKey);
+    byte[]|Error deleted = cachedClient->getObject(testBucketName, objectKey);
+    test:assertTrue(deleted is NoSuchKeyError, msg = "Deleted object was served from the cache");
+    check cachedClient.close();
+}
+
+@test:Config {
+    dependsOn: [testCreateBucket]
+}
+function testClientMetrics() returns error? {
+    Client metricsClient = check createTestClient({metrics: {slowRequestThreshold: 5}});
+    string objectKey = "metrics/object.txt";
+    string content = "content for the metrics test";
+    check metricsClient->putObject(testBucketName, objectKey, content);
+    _ = check metricsClient->getObject(testBucketName, objectKey);
+    _ = check metricsClient->getObject(testBucketName, objectKey);
+
+    ClientMetrics? metrics = metricsClient.getMetrics();
+    if metrics is () {
+        test:assertFail("Metrics are not enabled");
+    }
+    test:assertEquals(metrics.inFlightRequests, 0, msg = "In-flight request count mismatch");
+    OperationMetrics? put = metrics.operations["PutObject"];
+    OperationMetrics? get = metrics.operations["GetObject"];
+    if put is () || get is () {
+        test:assertFail("Operation metrics are missing");
+    }
+    test:assertEquals(put.requestCount, 1, msg = "PutObject request count mismatch");
+    test:assertTrue(put.bytesSent >= content.length(), msg = "PutObject bytes sent mismatch");
+    test:assertEquals(get.requestCount, 2, msg = "GetObject request count mismatch");
+    test:assertEquals(get.bytesReceived, 2 * content.length(), msg = "GetObject bytes received mismatch");
+    test:assertTrue(get.attemptCount >= get.requestCount, msg = "GetObject attempt count mismatch");
+    test:assertTrue(get.p99Latency >= get.p50Latency, msg = "Latency percentiles are out of order");
+
+    check metricsClient.publishMetrics();
+    test:assertTrue(s3Client.getMetrics() is (), msg = "Client without metrics returned metrics");
+    check metricsClient->deleteObject(testBucketName, objectKey);
+    check metricsClient.close();
+}
+
+@test:Config {
+    dependsOn: [testCreateBucket]
+}
+function testAdaptiveRetry() returns error? {
+    Client retryClient = check createTestClient({
+        'retry: {mode: ADAPTIVE, maxAttempts: 5, backoffBase: 0.05, backoffCap: 5}
+    });
+    string objectKey = "retry/object.txt";
+    check retryClient->putObject(testBucketName, objectKey, "retried content");
+    test:assertEquals(check retryClient->getObjectAsText(testBucketName, objectKey), "retried content");
+    check retryClient->deleteObject(testBucketName, objectKey);
+    check retryClient.close();
+}
+
+@test:Config {}
+function testInvalidRetryConfig() {
+    Client|error retryClient = createTestClient({'retry: {backoffBase: 2, backoffCap: 1}});
+    if getTestAuthConfig() !is () {
+        test:assertTrue(retryClient is Error, msg = "A backoff cap below the base was accepted");
+    }
+}
+
+@test:Config {}
+function testEndpointOptions() returns error? {
+    if getTestAuthConfig() is () {
+        return;
+    }
+    // Presigning does not send requests, so the URLs show the endpoint that the client uses
+    Client pathStyleClient = check createTestClient({endpoint: "http://localhost:9000", forcePathStyle: true});
+    string url = check pathStyleClient->createPresignedUrl("endpoint-bucket", "object.txt");
+    test:assertTrue(url.startsWith("http://localhost:9000/endpoint-bucket/object.txt"), msg = url);
+    check pathStyleClient.close();
+
+    Client accelerateClient = check createTestClient({accelerate: true});
+    url = check accelerateClient->createPresignedUrl("endpoint-bucket", "object.txt");
+    test:assertTrue(url.startsWith("https://endpoint-bucket.s3-accelerate.amazonaws.com/object.txt"), msg = url);
+    check accelerateClient.close();
+
+    Client dualstackClient = check createTestClient({dualstack: true});
+    url = check dualstackClient->createPresignedUrl("endpoint-bucket", "object.txt");
+    test:assertTrue(url.startsWith(string `https://endpoint-bucket.s3.dualstack.${awsRegion}.amazonaws.com/`),
+            msg = url);
+    check dualstackClient.close();
+
+    Client|error invalidClient = createTestClient({accelerate: true, forcePathStyle: true});
+    test:assertTrue(invalidClient is Error, msg = "accelerate with forcePathStyle was accepted");
+    invalidClient = createTestClient({endpoint: "localhost:9000"});
+    test:assertTrue(invalidClient is Error, msg = "An endpoint without a scheme was accepted");
+}
+
+@test:Config {
+    dependsOn: [testCreateBucket]
+}
+function testChecksums() returns error? {
+    byte[] content = from int i in 0 ..< 65536 select <byte>(i % 251);
+    foreach ChecksumAlgorithm algorithm in [CRC32C, CRC64NVME, SHA256] {
+        string objectKey = string `checksum/${algorithm}.bin`;
+        check s3Client->putObject(testBucketName, objectKey, content, checksumAlgorithm = algorithm);
+        byte[] downloaded = check s3Client->getObject(testBucketName, objectKey, validateChecksum = true);
+        test:assertEquals(downloaded, content, msg = string `Content mismatch for ${algorithm}`);
+        check s3Client->deleteObject(testBucketName, objectKey);
+    }
+
+    // Parts carry CRC64NVME checksums, which S3 combines into a checksum of the whole object
+    string largeKey = "checksum/large.bin";
+    byte[] largeContent = from int i in 0 ..< 12582912 select <byte>(i % 251);
+    check s3Client->putLargeObject(testBucketName, largeKey, largeContent, partSize = 5242880,
+            checksumAlgorithm = CRC64NVME);
+    stream<byte[], error?> contentStream = check s3Client->getObjectAsStream(testBucketName, largeKey,
+            chunkSize = 1048576, validateChecksum = true);
+    int total = 0;
+    check from byte[] chunk in contentStream
+        do {
+            total += chunk.length();
+        };
+    test:assertEquals(total, largeContent.length());
+    check s3Client->deleteObject(testBucketName, largeKey);
+
+    // A part checksum is verified by S3 without an MD5 of the part
+    string partKey = "checksum/part.bin";
+    string uploadId = check s3Client->createMultipartUpload(testBucketName, partKey);
+    string etag = check s3Client->uploadPart(testBucketName, partKey, uploadId, 1, content,
+            checksumAlgorithm = CRC32C);
+    check s3Client->completeMultipartUpload(testBucketName, partKey, uploadId, [1], [etag]);
+    test:assertEquals(check s3Client->getObject(testBucketName, partKey), content);
+    check s3Client->deleteObject(testBucketName, partKey);
+}
+
 @test:AfterSuite {}
 function testDeleteBucket() returns error? {
     // Clean up any remaining objects before deleting bucket
@@ -27,6 +27,9 @@ final string credentialsFilePath = os:getEnv("AWS_CREDENTIALS_FILE");
 // AWS Region for testing
 final Region awsRegion = EU_NORTH_1;
 
+// Endpoint of an S3-compatible store, such as a local stand-in, to run the tests against instead of AWS
+final string s3Endpoint = os:getEnv("S3_ENDPOINT");
+
 // Static credentials configuration
 final readonly & StaticAuthConfig staticAuth = {
     accessKeyId,
@@ -40,46 +43,48 @@ final readonly & ProfileAuthConfig profileAuth = {
 };
 
 // Initialize S3 client with appropriate auth strategy
-final Client s3Client = check initS3Client();
+final Client s3Client = check createTestClient();
 
-function initS3Client() returns Client|error {
-    if authType == "default" {
-        return new ({
-            region: awsRegion,
-            auth: DEFAULT_CREDENTIALS
-        });
-    } else if authType == "profile" {
-        return new ({
-            region: awsRegion,
-            auth: profileAuth
-        });
-    } else if accessKeyId != "" && secretAccessKey != "" {
-        return new ({
-            region: awsRegion,
-            auth: staticAuth
-        });
+// Partial client configuration of a test. The auth comes from the environment, and the region defaults to awsRegion
+type TestClientConfig record {|
+    Region region?;
+    string endpoint?;
+    boolean forcePathStyle?;
+    boolean accelerate?;
+    boolean dualstack?;
+    TransportConfig transport?;
+    boolean useAsyncClient?;
+    CrtTransferConfig crtTransfer?;
+    MetadataCacheConfig metadataCache?;
+    ContentCacheConfig contentCache?;
+    MetricsConfig metrics?;
+    RetryConfig 'retry?;
+|};
+
+// Creates a test client with the auth of the environment, or a mock client when no credentials are available.
+// Clients that do not choose their own endpoint use the S3_ENDPOINT store when it is set
+function createTestClient(TestClientConfig config = {}) returns Client|error {
+    AuthConfig? auth = getTestAuthConfig();
+    if auth is () {
+        return test:mock(Client);
+    }
+    ConnectionConfig connectionConfig = {...config, auth};
+    connectionConfig.region = config.region ?: awsRegion;
+    if s3Endpoint != "" && config.endpoint is () && config.accelerate is () && config.dualstack is () {
+        connectionConfig.endpoint = s3Endpoint;
+        connectionConfig.forcePathStyle = true;
     }
-    return test:mock(Client);
+    return new (connectionConfig);
 }
 
-// Helper function to create a client with a different region
-// Uses the same auth approach as the main client
-function createS3ClientWithRegion(Region targetRegion) returns Client|error {
+// Resolves the auth configuration used by the main client, or nil when no credentials are available
+function getTestAuthConfig() returns AuthConfig? {
     if authType == "default" {
-        return new ({
-            region: targetRegion,
-            auth: DEFAULT_CREDENTIALS
-        });
+        return DEFAULT_CREDENTIALS;
     } else if authType == "profile" {
-        return new ({
-            region: targetRegion,
-            auth: profileAuth
-        });
+        return profileAuth;
     } else if accessKeyId != "" && secretAccessKey != "" {
-        return new ({
-            region: targetRegion,
-            auth: staticAuth
-        });
+        return staticAuth;
     }
-    return test:mock(Client);
+    return ();
 }
@@ -46,6 +46,183 @@ public type ConnectionConfig record {|
     AuthConfig auth;
      # The AWS Region. If you don't specify an AWS region, Client uses US East as default region
     Region region = US_EAST_1;
+    # Custom endpoint URL, such as a VPC interface endpoint or an S3-compatible store. Overrides the endpoint of the
+    # region for all operations and presigned URLs
+    string endpoint?;
+    # Whether to address buckets in the path of the URL instead of the host name. Required by most S3-compatible
+    # stores and for bucket names that are not valid host names
+    boolean forcePathStyle = false;
+    # Whether to use S3 Transfer Acceleration endpoints. Acceleration must be enabled on the bucket, and cannot be
+    # combined with `forcePathStyle` or a custom endpoint
+    boolean accelerate = false;
+    # Whether to use the dual-stack (IPv4 and IPv6) endpoints. Cannot be combined with a custom endpoint, and is not
+    # supported together with `crtTransfer`
+    boolean dualstack = false;
+    # HTTP transport and connection pool configuration. If not specified, the AWS SDK defaults are used
+    TransportConfig transport?;
+    # Whether to use the non-blocking, Netty based async client. When enabled, a request does not hold a thread
+    # while it is in flight, which allows a large number of concurrent requests with a small number of threads.
+    # The `httpClientType` of the transport configuration is ignored in this mode
+    boolean useAsyncClient = false;
+    # AWS CRT based transfer client configuration. When set, `putObjectFromFile`, `getObject` and the stream
+    # operations use the CRT client, which splits large objects into parts that are transferred in parallel
+    CrtTransferConfig crtTransfer?;
+    # Cache of object metadata for `getObjectMetadata`, `doesObjectExist` and the batch variants. When not set,
+    # every call sends a HEAD request
+    MetadataCacheConfig metadataCache?;
+    # Local cache of object content for `getObject` and `getObjectAsStream`. When not set, the content is always
+    # downloaded
+    ContentCacheConfig contentCache?;
+    # Request metrics configuration. When set, the latency, payload size and attempts of each S3 operation are
+    # recorded and can be read with `getMetrics`. Requests of the CRT transfer client are not recorded
+    MetricsConfig metrics?;
+    # Retry configuration. If not specified, the standard retry strategy of the AWS SDK is used
+    RetryConfig 'retry?;
+|};
+
+# Retry strategies of the client.
+public enum RetryMode {
+    # Retries with exponential backoff, limited by a retry quota that stops retries when many requests fail
+    STANDARD = "STANDARD",
+    # Standard retries, with a client-side rate limiter that slows down the sending of requests when S3 throttles them
+    ADAPTIVE = "ADAPTIVE",
+    # The retry behavior of earlier versions of the AWS SDK
+    LEGACY = "LEGACY"
+}
+
+# Retry configuration of the client.
+# Throttled requests are retried with the throttling backoff of the AWS SDK, and a request that is still throttled
+# after the last attempt fails with a `ThrottlingError`.
+public type RetryConfig record {|
+    # The retry strategy
+    RetryMode mode = STANDARD;
+    # Maximum number of attempts of a request, including the first one (AWS SDK default: 3)
+    int maxAttempts?;
+    # Base delay in seconds of the exponential backoff between attempts (AWS SDK default: 0.1)
+    decimal backoffBase?;
+    # Maximum delay in seconds between attempts (AWS SDK default: 20)
+    decimal backoffCap?;
+|};
+
+# Configuration of the request metrics of a client.
+public type MetricsConfig record {|
+    # Requests that take at least this many seconds are logged as warnings. If not set, no requests are logged
+    decimal slowRequestThreshold?;
+|};
+
+# Metrics of the requests of a client.
+public type ClientMetrics record {|
+    # Number of requests in flight
+    int inFlightRequests;
+    # Number of connections in use, as reported by the HTTP client on the latest request
+    int leasedConnections;
+    # Number of idle connections in the pool, as reported by the HTTP client on the latest request
+    int availableConnections;
+    # Number of requests waiting for a connection, as reported by the HTTP client on the latest request
+    int pendingConnectionAcquires;
+    # Metrics of each S3 operation, keyed by the operation name (e.g., "PutObject")
+    map<OperationMetrics> operations;
+|};
+
+# Metrics of the requests of one S3 operation.
+public type OperationMetrics record {|
+    # The S3 operation name
+    string operation;
+    # Number of completed requests
+    int requestCount;
+    # Number of requests that failed after all attempts
+    int errorCount;
+    # Number of attempts, including retries
+    int attemptCount;
+    # Number of attempts that were throttled by S3
+    int throttledCount;
+    # Total bytes of the request bodies sent, over all attempts
+    int bytesSent;
+    # Total bytes of the response bodies received, over all attempts
+    int bytesReceived;
+    # Median latency of a request in seconds, including retries
+    decimal p50Latency;
+    # 99th percentile latency of a request in seconds, including retries
+    decimal p99Latency;
+    # Highest latency of a request in seconds
+    decimal maxLatency;
+|};
+
+# Configuration of the per-client object metadata cache.
+# Writes and deletes through the same client invalidate the cached entries of their keys. Changes made by other
+# clients are seen once the entries expire.
+public type MetadataCacheConfig record {|
+    # Maximum number of cached objects. The least recently used entries are evicted beyond it
+    int maxEntries = 10000;
+    # Time in seconds for which the metadata of an object is cached
+    decimal ttl = 60;
+    # Time in seconds for which a missing object is cached. Zero disables caching of missing objects
+    decimal negativeTtl = 10;
+|};
+
+# Configuration of the local object content cache.
+# Cached objects are revalidated with their ETag on every read, and served from the local copy when S3 answers that
+# the object is not modified. Reads with a version, range or condition are not cached.
+public type ContentCacheConfig record {|
+    # Directory of the cached objects, which is created if it does not exist. The directory must not be shared with
+    # other clients
+    string directory;
+    # Maximum total size in bytes of the cached objects. The least recently used objects are evicted beyond it
+    int maxBytes = 1073741824;
+|};
+
+# Counters of the object metadata cache of a client.
+public type MetadataCacheStats record {|
+    # Number of lookups answered from the cache
+    int hits;
+    # Number of lookups that sent a HEAD request
+    int misses;
+    # Number of entries evicted to stay within `maxEntries`
+    int evictions;
+    # Number of entries currently in the cache, including expired entries that were not looked up since
+    int entries;
+|};
+
+# AWS CRT based transfer client configuration.
+# Uploads are split into parts automatically and downloads are fetched as parallel byte-range requests.
+public type CrtTransferConfig record {|
+    # Target aggregate throughput in gigabits per second, used to decide the number of parallel connections
+    decimal targetThroughputInGbps = 10;
+    # Minimum part size in bytes used for multipart uploads and ranged downloads (AWS SDK default: 8 MiB)
+    int minimumPartSize?;
+    # Maximum number of concurrent requests. If not specified, it is derived from the target throughput
+    int maxConcurrency?;
+    # Initial size in bytes of the buffer that holds downloaded parts before they are consumed
+    int initialReadBufferSize?;
+|};
+
+# HTTP client implementations that can back the S3 client.
+public enum HttpClientType {
+    # Apache HttpClient based implementation with a managed connection pool
+    APACHE = "APACHE",
+    # JDK `HttpURLConnection` based implementation with a smaller footprint and no connection pool settings
+    URL_CONNECTION = "URL_CONNECTION"
+}
+
+# HTTP transport and connection pool configuration.
+# Timeouts are specified in seconds. Settings that are not specified fall back to the AWS SDK defaults.
+public type TransportConfig record {|
+    # The HTTP client implementation to use
+    HttpClientType httpClientType = APACHE;
+    # Maximum number of connections allowed in the connection pool (AWS SDK default: 50)
+    int maxConnections?;
+    # Maximum time to wait for a connection to be leased from the connection pool
+    decimal connectionAcquisitionTimeout?;
+    # Maximum time to wait while establishing a connection
+    decimal connectionTimeout?;
+    # Maximum time to wait for data to be transferred over an established connection
+    decimal socketTimeout?;
+    # Maximum time a connection may stay idle in the connection pool before it is closed
+    decimal connectionMaxIdleTime?;
+    # Maximum time a pooled connection is allowed to live before it is closed
+    decimal connectionTimeToLive?;
+    # Whether to enable TCP keep-alive on pooled connections
+    boolean tcpKeepAlive?;
 |};
 
 
@@ -96,13 +273,43 @@ public type PutObjectConfig record {|
     string tagging?;
     # Encryption type ("AES256" or "aws:kms")
     string serverSideEncryption?;
+    # Checksum computed while the content is sent, which S3 verifies and stores with the object
+    ChecksumAlgorithm checksumAlgorithm?;
 |};
 
+# Checksum algorithms for verifying the integrity of object content.
+public enum ChecksumAlgorithm {
+    # CRC-32C, which is fast on hardware with CRC instructions
+    CRC32C = "CRC32C",
+    # 64-bit CRC (NVMe polynomial), which is the fastest on most hardware and has the lowest collision rate of the
+    # CRC algorithms
+    CRC64NVME = "CRC64NVME",
+    # SHA-256. The checksum of an object uploaded in parts is a checksum of the part checksums, which cannot be
+    # validated on download
+    SHA256 = "SHA256"
+}
+
 # Configuration for uploading an object as a stream.
 public type PutObjectStreamConfig record {|
     *PutObjectConfig;
-    # The Size of the content, in bytes
-    int contentLength;
+    *StreamReadAheadConfig;
+    # The Size of the content, in bytes. If not specified, the content is buffered in parts of `partSize`. Content
+    # that fits in one part is uploaded with a single request, otherwise it is uploaded as a multipart upload
+    int contentLength?;
+    # Size of each buffered part in bytes when the content length is not specified. Must be at least 5 MiB
+    int partSize = 8388608;
+    # Maximum number of parts uploaded concurrently when the content length is not specified.
+    # At most this many parts, plus the one being filled, are held in memory
+    int maxConcurrency = 4;
+|};
+
+# Configuration for reading an upload content stream ahead of the upload.
+public type StreamReadAheadConfig record {|
+    # Number of buffers that the content stream is read ahead into, on a separate strand, while the upload sends
+    # the previous ones. Set to 0 to read the stream on demand
+    int readAheadBuffers = 0;
+    # Minimum size in bytes of a read-ahead buffer. Smaller stream chunks are combined into one buffer
+    int coalesceSize = 65536;
 |};
 
 # Configuration for retrieving an object.
@@ -125,6 +332,38 @@ public type GetObjectConfig record {|
     string responseContentType?;
     # Override presentational information for the object
     string responseContentDisposition?;
+    # Size in bytes of the chunks returned by `getObjectAsStream` (default: 4096). Every chunk except the last one
+    # has this size. Larger chunks reduce the per-chunk overhead for large objects
+    int chunkSize?;
+    # Number of chunks that `getObjectAsStream` reads ahead in the background while the consumer processes the
+    # current chunk. Set to 0 to read each chunk on demand
+    int readAheadChunks = 0;
+    # Whether to validate the content against the checksum stored with the object while it is read. Objects without
+    # a full-object checksum are not validated
+    boolean validateChecksum = false;
+|};
+
+# Configuration for downloading an object to a local file.
+public type GetObjectToFileConfig record {|
+    *GetObjectConfig;
+    # Whether to write to a temporary file that replaces the target file with an atomic rename once the download
+    # completes. The target file is then never left partially written
+    boolean atomic = false;
+|};
+
+# Configuration for parallel downloads, which fetch byte ranges of an object concurrently.
+public type ParallelDownloadConfig record {|
+    # Get a specific version of the object (when versioning is enabled)
+    string versionId?;
+    # Download the object only if its entity tag (ETag) is the same as the one specified
+    string ifMatch?;
+    # Size of each byte range in bytes. Ignored for multipart objects when `usePartLayout` is enabled. A size that
+    # splits the object into more than 10,000 ranges is rejected with a `ClientError`
+    int partSize = 8388608;
+    # Maximum number of ranges downloaded concurrently. For streams, this also bounds the ranges buffered in memory
+    int maxConcurrency = 8;
+    # Whether to download a multipart object by its part numbers, so that each request matches an uploaded part
+    boolean usePartLayout = false;
 |};
 
 # Configuration for deleting an object.
@@ -137,6 +376,61 @@ public type DeleteObjectConfig record {|
     boolean bypassGovernanceRetention?;
 |};
 
+# Identifies an object to delete in a batch delete.
+public type ObjectIdentifier record {|
+    # The object's path/name in the bucket
+    string key;
+    # Delete a specific version of the object (when versioning is enabled)
+    string versionId?;
+|};
+
+# Progress of a batch delete, reported after each delete request completes.
+public type DeleteProgress record {|
+    # Number of objects deleted so far
+    int deletedCount;
+    # Number of objects that could not be deleted so far
+    int failedCount;
+|};
+
+# Function that is called with the progress of a batch delete.
+public type DeleteProgressListener isolated function (DeleteProgress progress);
+
+# Configuration for deleting objects in batches.
+public type DeleteObjectsConfig record {|
+    # Maximum number of delete requests, of up to 1000 objects each, that are sent at a time
+    int maxConcurrency = 4;
+    # Skip the lock protection and delete the objects even if they're protected (use with caution)
+    boolean bypassGovernanceRetention?;
+    # Function that is called with the progress after each delete request
+    DeleteProgressListener progressListener?;
+|};
+
+# An object that could not be deleted in a batch delete.
+public type DeleteObjectError record {|
+    # The object's path/name in the bucket
+    string key;
+    # The version of the object
+    string versionId?;
+    # The S3 error code (e.g., "AccessDenied")
+    string code;
+    # The S3 error message
+    string message;
+|};
+
+# Result of a batch delete.
+public type DeleteObjectsResult record {|
+    # Number of objects deleted
+    int deletedCount;
+    # Objects that could not be deleted
+    DeleteObjectError[] errors;
+|};
+
+# Configuration for checking many objects at once.
+public type BatchHeadConfig record {|
+    # Maximum number of HEAD requests that are sent at a time
+    int maxConcurrency = 32;
+|};
+
 # Configuration for listing objects.
 public type ListObjectsConfig record {|
     # Filter objects that start with this value (e.g., "photos/" for all objects in photos folder)
@@ -155,6 +449,39 @@ public type ListObjectsConfig record {|
     string encodingType?;
 |};
 
+# Configuration for streaming the objects of a bucket.
+# The listing pages through the bucket with `maxKeys` objects per request.
+public type ListObjectsStreamConfig record {|
+    *ListObjectsConfig;
+    # Maximum number of objects to return in total. All matching objects are returned when not set
+    int maxObjects?;
+|};
+
+# Configuration for listing the objects of a bucket as partitions of the key space that are listed in parallel.
+# Partitions are discovered from the prefix tree, unless `partitionBoundaries` are given.
+public type ParallelListConfig record {|
+    # Filter objects that start with this value (e.g., "photos/" for all objects in photos folder)
+    string prefix?;
+    # Character that separates the levels of the prefix tree that is discovered to form the partitions
+    string delimiter = "/";
+    # Number of prefix tree levels below the prefix that are discovered. Each prefix at the last level is a partition
+    int partitionDepth = 1;
+    # Keys that split the key range into partitions instead of prefix discovery, in ascending order of their UTF-8
+    # bytes as S3 lists them. A partition lists the keys after the previous boundary, up to and including its own
+    # boundary
+    string[] partitionBoundaries?;
+    # Maximum number of partitions that are listed at a time
+    int maxConcurrency = 8;
+    # Return the objects in key order. Otherwise objects are returned in the order the partitions return them
+    boolean ordered = true;
+    # Maximum number of objects per list request (1-1000)
+    int maxKeys?;
+    # Include owner info in the results
+    boolean fetchOwner?;
+    # Maximum number of objects to return in total. All matching objects are returned when not set
+    int maxObjects?;
+|};
+
 # Configuration for copying an object.
 public type CopyObjectConfig record {|
     # Specifies accessibility for the copied object (e.g., "private", "public-read")
@@ -185,6 +512,54 @@ public type CopyObjectConfig record {|
     string copySourceIfUnmodifiedSince?;
 |};
 
+# Configuration for copying a large object as parts that are copied in parallel within S3.
+public type LargeCopyConfig record {|
+    *CopyObjectConfig;
+    # Size of each copied part in bytes. Must be at least 5 MiB. It is increased when the object would need more
+    # than 10000 parts, and objects that fit in a single part are copied with a single request
+    int partSize = 67108864;
+    # Maximum number of parts copied concurrently
+    int maxConcurrency = 8;
+|};
+
+# Configuration for synchronizing a prefix between buckets.
+public type SyncConfig record {|
+    # Maximum number of copy and delete requests that run at a time
+    int maxConcurrency = 16;
+    # Delete the objects under the destination prefix that do not exist under the source prefix
+    boolean deleteExtras = false;
+    # Size of the parts of objects above 5 GB, which are copied in parts
+    int partSize = 67108864;
+|};
+
+# An object that could not be copied or deleted during a sync.
+public type SyncFailure record {|
+    # The object's path/name in the bucket
+    string key;
+    # The reason of the failure
+    string message;
+|};
+
+# Result of synchronizing a prefix between buckets.
+public type SyncResult record {|
+    # Number of objects copied to the destination
+    int copiedObjects;
+    # Number of bytes copied to the destination
+    int copiedBytes;
+    # Number of objects that were already up to date
+    int skippedObjects;
+    # Number of bytes of the objects that were already up to date
+    int skippedBytes;
+    # Number of objects that could not be copied or deleted
+    int failedObjects;
+    # Number of bytes of the objects that could not be copied
+    int failedBytes;
+    # Number of extra objects deleted from the destination
+    int deletedObjects;
+    # The objects that could not be copied or deleted
+    SyncFailure[] failures;
+|};
+
 # Configuration for getting object metadata.
 public type HeadObjectConfig record {|
     # Get metadata for a specific version of the object (when versioning is enabled)
@@ -239,17 +614,34 @@ public type MultipartUploadConfig record {|
     string serverSideEncryption?;
 |};
 
+# Configuration for managed uploads, which split the content into parts that are uploaded in parallel.
+public type ManagedUploadConfig record {|
+    *MultipartUploadConfig;
+    # Size of each part in bytes. Must be at least 5 MiB. Content that fits in a single part is uploaded with a
+    # single request
+    int partSize = 8388608;
+    # Maximum number of parts uploaded concurrently
+    int maxConcurrency = 8;
+    # Checksum computed for each part while it is sent. S3 combines the CRC checksums of the parts into a checksum
+    # of the whole object
+    ChecksumAlgorithm checksumAlgorithm?;
+|};
+
 # Configuration for uploading a single part in a multipart upload.
 public type UploadPartConfig record {|
     # Size of the part in bytes
     int contentLength?;
     # MD5 hash of the part content (for data integrity check)
     string contentMD5?;
+    # Checksum computed while the part is sent, which S3 verifies. Unlike `contentMD5`, it does not need a separate
+    # pass over the content
+    ChecksumAlgorithm checksumAlgorithm?;
 |};
 
 # Configuration for uploading a part as a stream in a multipart upload.
 public type UploadStreamPartConfig record {|
     *UploadPartConfig;
+    *StreamReadAheadConfig;
     # Size of the part in bytes
     int contentLength;
 |};
@@ -278,6 +670,8 @@ public type ListObjectsResponse record {|
     boolean isTruncated;
     # Token to get the next page of results
     string nextContinuationToken?;
+    # Key prefixes up to the next delimiter, when a delimiter is given (like folders)
+    string[] commonPrefixes?;
 |};
 
 # Metadata information about an S3 object.
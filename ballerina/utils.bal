@@ -14,6 +14,8 @@
 // specific language governing permissions and limitations
 // under the License.
 
+import ballerina/observe;
+
 # Validates if a bucket name follows AWS naming conventions.
 #
 # + bucketName - The name of the bucket
@@ -52,3 +54,45 @@ isolated function toByteArray(anydata content) returns byte[] {
     }
     return content.toString().toBytes();
 }
+
+# Publishes the request metrics of a client as observability gauges.
+#
+# + metrics - The metrics of the client
+# + return - An Error if a metric cannot be registered
+isolated function publishClientMetrics(ClientMetrics metrics) returns Error? {
+    check setGauge("aws_s3_in_flight_requests", "S3 requests in flight", metrics.inFlightRequests);
+    check setGauge("aws_s3_leased_connections", "HTTP connections in use", metrics.leasedConnections);
+    check setGauge("aws_s3_available_connections", "Idle HTTP connections", metrics.availableConnections);
+    check setGauge("aws_s3_pending_connection_acquires", "Requests waiting for an HTTP connection",
+            metrics.pendingConnectionAcquires);
+    foreach OperationMetrics operation in metrics.operations {
+        map<string> tags = {operation: operation.operation};
+        check setGauge("aws_s3_requests", "Completed S3 requests", operation.requestCount, tags);
+        check setGauge("aws_s3_request_errors", "Failed S3 requests", operation.errorCount, tags);
+        check setGauge("aws_s3_request_attempts", "S3 request attempts", operation.attemptCount, tags);
+        check setGauge("aws_s3_throttled_attempts", "Throttled S3 request attempts", operation.throttledCount, tags);
+        check setGauge("aws_s3_bytes_sent", "Bytes sent to S3", operation.bytesSent, tags);
+        check setGauge("aws_s3_bytes_received", "Bytes received from S3", operation.bytesReceived, tags);
+        check setGauge("aws_s3_latency_p50_seconds", "Median S3 request latency", operation.p50Latency, tags);
+        check setGauge("aws_s3_latency_p99_seconds", "99th percentile S3 request latency", operation.p99Latency,
+                tags);
+    }
+}
+
+# Sets the value of an observability gauge, registering the gauge on first use.
+#
+# + name - The metric name
+# + description - The metric description
+# + value - The value to set
+# + tags - The metric tags
+# + return - An Error if the gauge cannot be registered
+isolated function setGauge(string name, string description, int|decimal value, map<string> tags = {})
+        returns Error? {
+    // Registering a gauge that exists returns the registered one, so the value replaces the previous value
+    observe:Gauge gauge = new (name, description, tags, []);
+    error? registered = gauge.register();
+    if registered is error {
+        return error Error(string `Failed to register metric ${name}: ${registered.message()}`, registered);
+    }
+    gauge.setValue(<float>value);
+}
@@ -0,0 +1,145 @@
+// Copyright (c) 2025 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+package io.ballerina.lib.aws.s3;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * An in-process HTTP server that answers the S3 requests used by the benchmarks with fixed responses, so that the
+ * benchmarks measure the client side of a request without the network.
+ * Requests use path-style addressing. A GET of the bucket returns a ListObjectsV2 page of {@code pageSize} objects,
+ * and a GET or HEAD of any key returns the fixed object content. A PUT reads and discards the body.
+ */
+public final class FakeS3Server implements AutoCloseable {
+    static final String BUCKET = "benchmark-bucket";
+    static final String E_TAG = "\"9b2cf535f27731c974343645a3985328\"";
+    static final String LAST_MODIFIED = "Wed, 15 Oct 2025 10:00:00 GMT";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final byte[] listPage;
+    private final byte[] content;
+
+    public FakeS3Server(int pageSize, byte[] content) throws IOException {
+        this.listPage = createListPage(pageSize);
+        this.content = content;
+        this.executor = Executors.newFixedThreadPool(4, runnable -> {
+            Thread thread = new Thread(runnable, "fake-s3-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        this.server.createContext("/", this::handle);
+        this.server.setExecutor(executor);
+        this.server.start();
+    }
+
+    public URI endpoint() {
+        return URI.create("http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort());
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            try (InputStream body = exchange.getRequestBody()) {
+                body.transferTo(OutputStream.nullOutputStream());
+            }
+            String path = exchange.getRequestURI().getPath();
+            boolean bucketRequest = path.equals("/" + BUCKET) || path.equals("/" + BUCKET + "/");
+            Headers headers = exchange.getResponseHeaders();
+            headers.set("x-amz-request-id", "BENCHMARK");
+            switch (exchange.getRequestMethod()) {
+                case "GET":
+                    if (bucketRequest) {
+                        headers.set("Content-Type", "application/xml");
+                        send(exchange, listPage);
+                    } else {
+                        setObjectHeaders(headers);
+                        send(exchange, content);
+                    }
+                    break;
+                case "HEAD":
+                    setObjectHeaders(headers);
+                    headers.set("Content-Length", String.valueOf(content.length));
+                    exchange.sendResponseHeaders(200, -1);
+                    break;
+                case "PUT":
+                    headers.set("ETag", E_TAG);
+                    exchange.sendResponseHeaders(200, -1);
+                    break;
+                default:
+                    exchange.sendResponseHeaders(405, -1);
+            }
+        }
+    }
+
+    private static void setObjectHeaders(Headers headers) {
+        headers.set("Content-Type", "application/octet-stream");
+        headers.set("ETag", E_TAG);
+        headers.set("Last-Modified", LAST_MODIFIED);
+        headers.set("x-amz-storage-class", "STANDARD");
+        headers.set("x-amz-version-id", "3HL4kqtJlcpXroDTDmJ.rmSpXd3dIbrHY");
+        headers.set("x-amz-meta-owner", "benchmark");
+        headers.set("x-amz-meta-source", "fake-s3-server");
+        headers.set("x-amz-meta-checksum", "9b2cf535f27731c974343645a3985328");
+    }
+
+    private static void send(HttpExchange exchange, byte[] body) throws IOException {
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(body);
+        }
+    }
+
+    private static byte[] createListPage(int pageSize) {
+        StringBuilder xml = new StringBuilder(pageSize * 320);
+        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>")
+                .append("<ListBucketResult xmlns=\"http://s3.amazonaws.com/doc/2006-03-01/\">")
+                .append("<Name>").append(BUCKET).append("</Name><Prefix></Prefix>")
+                .append("<KeyCount>").append(pageSize).append("</KeyCount>")
+                .append("<MaxKeys>").append(pageSize).append("</MaxKeys>")
+                .append("<IsTruncated>true</IsTruncated>")
+                .append("<NextContinuationToken>1ueGcxLPRx1Tr/XYExHnhbYLgveDs2J/wm36Hy4vbOwM=</NextContinuationToken>");
+        for (int i = 0; i < pageSize; i++) {
+            xml.append("<Contents><Key>data/2025/10/15/part-").append(String.format("%06d", i)).append(".parquet</Key>")
+                    .append("<LastModified>2025-10-15T10:00:00.000Z</LastModified>")
+                    .append("<ETag>&quot;9b2cf535f27731c974343645a3985328&quot;</ETag>")
+                    .append("<Size>").append(1048576L + i).append("</Size>")
+                    .append("<StorageClass>STANDARD</StorageClass></Contents>");
+        }
+        xml.append("</ListBucketResult>");
+        return xml.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
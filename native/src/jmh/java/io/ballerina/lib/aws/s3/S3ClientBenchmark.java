@@ -0,0 +1,163 @@
+// Copyright (c) 2025 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+package io.ballerina.lib.aws.s3;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.checksums.RequestChecksumCalculation;
+import software.amazon.awssdk.core.checksums.ResponseChecksumValidation;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the request paths of the native adaptor against {@link FakeS3Server}. Each benchmark makes the SDK
+ * calls of the adaptor operation and converts the result with the conversion code of the adaptor.
+ * The generated record types of the Ballerina module are not available outside a Ballerina program, so the
+ * record fields are filled into maps instead of into records.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class S3ClientBenchmark {
+    private static final int LIST_PAGE_SIZE = 1000;
+    private static final String KEY = "data/2025/10/15/part-000000.parquet";
+    private static final MapType RECORD_TYPE = TypeCreator.createMapType(PredefinedTypes.TYPE_ANYDATA);
+    private static final BString KEY_VALUE = StringUtils.fromString(KEY);
+
+    // Size of the object content in bytes for putObject and getObject
+    @Param({"65536", "8388608"})
+    public int objectSize;
+
+    private FakeS3Server server;
+    private S3Client s3;
+    private BArray content;
+
+    @Setup
+    public void setup() throws IOException {
+        byte[] bytes = new byte[objectSize];
+        ThreadLocalRandom.current().nextBytes(bytes);
+        server = new FakeS3Server(LIST_PAGE_SIZE, bytes);
+        content = ValueCreator.createArrayValue(bytes);
+        // Checksums are only computed when S3 requires them, so that the benchmarks measure the copies of the
+        // adaptor rather than the checksum of the content
+        s3 = S3Client.builder()
+                .region(Region.US_EAST_1)
+                .endpointOverride(server.endpoint())
+                .forcePathStyle(true)
+                .credentialsProvider(StaticCredentialsProvider.create(
+                        AwsBasicCredentials.create("benchmark", "benchmark")))
+                .requestChecksumCalculation(RequestChecksumCalculation.WHEN_REQUIRED)
+                .responseChecksumValidation(ResponseChecksumValidation.WHEN_REQUIRED)
+                .httpClientBuilder(ApacheHttpClient.builder())
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        s3.close();
+        server.close();
+    }
+
+    // listObjects and the object stream: one page of 1000 objects converted to S3Object values
+    @Benchmark
+    public BArray listObjectsV2() {
+        ListObjectsV2Response response = s3.listObjectsV2(ListObjectsV2Request.builder()
+                .bucket(FakeS3Server.BUCKET)
+                .maxKeys(LIST_PAGE_SIZE)
+                .build());
+        List<S3Object> objects = response.contents();
+        Object[] values = new Object[objects.size()];
+        for (int i = 0; i < values.length; i++) {
+            BMap<BString, Object> value = ValueCreator.createMapValue(RECORD_TYPE);
+            RecordCreator.putS3ObjectFields(value, objects.get(i));
+            values[i] = value;
+        }
+        return ValueCreator.createArrayValue(values, TypeCreator.createArrayType(RECORD_TYPE));
+    }
+
+    // headObject: the response headers converted to ObjectMetadata, including the user metadata map
+    @Benchmark
+    public BMap<BString, Object> headObject() {
+        HeadObjectResponse response = s3.headObject(HeadObjectRequest.builder()
+                .bucket(FakeS3Server.BUCKET)
+                .key(KEY)
+                .build());
+        BMap<BString, Object> value = ValueCreator.createMapValue(RECORD_TYPE);
+        RecordCreator.putObjectMetadataFields(value, KEY_VALUE, response);
+        return value;
+    }
+
+    // putObjectWithContent: the Ballerina byte array is copied out of the array value and sent as the body
+    @Benchmark
+    public void putObjectWithContent() {
+        byte[] bytes = content.getBytes();
+        s3.putObject(PutObjectRequest.builder()
+                .bucket(FakeS3Server.BUCKET)
+                .key(KEY)
+                .build(), RequestBody.fromBytes(bytes));
+    }
+
+    // getObject: the content is read into a byte array and wrapped in a Ballerina byte array
+    @Benchmark
+    public BArray getObject() {
+        ResponseBytes<GetObjectResponse> responseBytes = s3.getObjectAsBytes(GetObjectRequest.builder()
+                .bucket(FakeS3Server.BUCKET)
+                .key(KEY)
+                .build());
+        return ValueCreator.createArrayValue(responseBytes.asByteArray());
+    }
+}
@@ -0,0 +1,124 @@
+// Copyright (c) 2025 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+package io.ballerina.lib.aws.s3;
+
+import io.ballerina.runtime.api.values.BArray;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the byte bridging between Java input streams and Ballerina byte streams. Each invocation moves
+ * {@link #CONTENT_SIZE} bytes, so the throughput in operations per second times the content size is the bandwidth.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StreamBenchmark {
+    static final int CONTENT_SIZE = 8 * 1024 * 1024;
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    // Size of the chunks of the Ballerina stream, and of the chunks read from the Java stream
+    @Param({"4096", "65536"})
+    public int chunkSize;
+
+    // Number of chunks read ahead of the consumer, or 0 to read on demand
+    @Param({"0", "4"})
+    public int readAhead;
+
+    private byte[] content;
+    private byte[][] chunks;
+
+    @Setup
+    public void setup() {
+        content = new byte[CONTENT_SIZE];
+        ThreadLocalRandom.current().nextBytes(content);
+        chunks = new byte[CONTENT_SIZE / chunkSize][];
+        for (int i = 0; i < chunks.length; i++) {
+            chunks[i] = new byte[chunkSize];
+            System.arraycopy(content, i * chunkSize, chunks[i], 0, chunkSize);
+        }
+    }
+
+    // The work of StreamIteratorUtils.readStreamBytes per chunk of a downloaded object: reading the next chunk and
+    // wrapping it in a Ballerina byte array
+    @Benchmark
+    public void readStreamBytes(Blackhole blackhole) throws IOException {
+        ChunkReader reader = new ChunkReader(new ByteArrayInputStream(content), chunkSize, readAhead);
+        try {
+            BArray chunk;
+            while ((chunk = StreamIteratorUtils.readChunk(reader)) != null) {
+                blackhole.consume(chunk);
+            }
+        } finally {
+            reader.close();
+        }
+    }
+
+    // Reading an uploaded Ballerina byte stream as the request body of the SDK
+    @Benchmark
+    public long ballerinaStreamInputStream() throws IOException {
+        long total = 0;
+        byte[] buffer = new byte[READ_BUFFER_SIZE];
+        try (InputStream input = new BallerinaStreamInputStream(null, new ArrayChunkSource(chunks), readAhead,
+                READ_BUFFER_SIZE)) {
+            int read;
+            while ((read = input.read(buffer, 0, buffer.length)) != -1) {
+                total += read;
+            }
+        }
+        return total;
+    }
+
+    // Stands in for a Ballerina stream, which returns the chunks produced by the Ballerina side without copying them
+    private static final class ArrayChunkSource implements ChunkSource {
+        private final byte[][] chunks;
+        private int index;
+
+        private ArrayChunkSource(byte[][] chunks) {
+            this.chunks = chunks;
+        }
+
+        @Override
+        public byte[] nextChunk() {
+            return index < chunks.length ? chunks[index++] : null;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -27,41 +27,67 @@ import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BStream;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Helper class to convert Ballerina stream to Java InputStream.
  * This enables reading data from a Ballerina byte stream in Java code.
+ * In prefetch mode the stream is read ahead on a separate strand into a bounded queue of buffers, and small chunks
+ * are coalesced into buffers of at least the given size, so the reader does not wait on one interop call per chunk.
  */
 public class BallerinaStreamInputStream extends InputStream {
-    private static final String BAL_STREAM_CLOSE = "close";
-    private static final String STREAM_VALUE = "value";
-    private static final String BAL_STREAM_NEXT = "next";
-    
+    private static final Object END_OF_STREAM = new Object();
+    private static final long OFFER_TIMEOUT_MILLIS = 100;
+
     private final Environment environment;
-    private final BStream ballerinaStream;
+    private final ChunkSource source;
+    private final BlockingQueue<Object> prefetched;
+    private final int coalesceSize;
+    private final CompletableFuture<Void> producer;
+    private volatile boolean closed;
     private byte[] currentChunk;
     private int chunkPosition;
     private boolean endOfStream;
-    private final boolean hasCloseMethod;
 
     public BallerinaStreamInputStream(Environment environment, BStream ballerinaStream) {
-        this.ballerinaStream = ballerinaStream;
+        this(environment, new BallerinaChunkSource(environment, ballerinaStream), 0, 0);
+    }
+
+    /**
+     * @param environment     the environment of the calling strand
+     * @param ballerinaStream the stream to read
+     * @param prefetchBuffers number of buffers read ahead of the reader, or 0 to read the stream on demand
+     * @param coalesceSize    minimum size of a prefetched buffer in bytes
+     */
+    public BallerinaStreamInputStream(Environment environment, BStream ballerinaStream, int prefetchBuffers,
+            int coalesceSize) {
+        this(environment, new BallerinaChunkSource(environment, ballerinaStream), prefetchBuffers, coalesceSize);
+    }
+
+    public BallerinaStreamInputStream(Environment environment, ChunkSource source, int prefetchBuffers,
+            int coalesceSize) {
         this.environment = environment;
+        this.source = source;
+        this.coalesceSize = coalesceSize;
         this.currentChunk = null;
         this.chunkPosition = 0;
         this.endOfStream = false;
-        
-        // Check if stream has a close method
-        Type iteratorType = ballerinaStream.getIteratorObj().getOriginalType();
-        if (iteratorType.getTag() == TypeTags.OBJECT_TYPE_TAG) {
-            ObjectType iteratorObjectType = (ObjectType) iteratorType;
-            MethodType[] methods = iteratorObjectType.getMethods();
-            hasCloseMethod = java.util.Arrays.stream(methods)
-                    .anyMatch(method -> method.getName().equals(BAL_STREAM_CLOSE));
+        if (prefetchBuffers > 0) {
+            this.prefetched = new ArrayBlockingQueue<>(prefetchBuffers);
+            this.producer = ParallelExecutor.supply(() -> {
+                prefetch();
+                return null;
+            });
         } else {
-            hasCloseMethod = false;
+            this.prefetched = null;
+            this.producer = null;
         }
     }
 
@@ -117,52 +143,189 @@ public class BallerinaStreamInputStream extends InputStream {
     }
 
     private boolean fetchNextChunk() throws IOException {
+        if (prefetched == null) {
+            byte[] chunk;
+            do {
+                chunk = source.nextChunk();
+            } while (chunk != null && chunk.length == 0);
+            return setCurrentChunk(chunk);
+        }
+
+        Object item = takePrefetched();
+        if (item == END_OF_STREAM) {
+            return false;
+        } else if (item instanceof IOException) {
+            throw (IOException) item;
+        } else if (item instanceof RuntimeException) {
+            throw new IOException("Error reading from Ballerina stream: " + ((RuntimeException) item).getMessage(),
+                    (RuntimeException) item);
+        }
+        return setCurrentChunk((byte[]) item);
+    }
+
+    private boolean setCurrentChunk(byte[] chunk) {
+        if (chunk == null) {
+            return false;
+        }
+        currentChunk = chunk;
+        chunkPosition = 0;
+        return true;
+    }
+
+    // Waits for the producer with the strand yielded, so that the producer strand can run
+    private Object takePrefetched() throws IOException {
         try {
-            // Call next() method on the stream using Ballerina runtime
-            Object result = environment.getRuntime().callMethod(
-                    ballerinaStream.getIteratorObj(), BAL_STREAM_NEXT, null);
-            
-            if (result instanceof BError) {
-                throw new IOException("Error reading from stream: " + ((BError) result).getMessage());
+            if (environment == null) {
+                return prefetched.take();
             }
-            
-            if (result == null) {
-                return false;
+            return environment.yieldAndRun(() -> {
+                try {
+                    return prefetched.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return new InterruptedIOException("Interrupted while reading from Ballerina stream");
+                }
+            });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while reading from Ballerina stream");
+        }
+    }
+
+    // Reads the source ahead of the reader. Chunks smaller than coalesceSize are copied into a shared buffer that
+    // is queued once it is full, while larger chunks are queued as they are.
+    private void prefetch() {
+        ByteArrayOutputStream pending = new ByteArrayOutputStream(coalesceSize);
+        try {
+            while (!closed) {
+                byte[] chunk = source.nextChunk();
+                if (chunk == null) {
+                    break;
+                }
+                if (pending.size() == 0 && chunk.length >= coalesceSize) {
+                    if (!offer(chunk)) {
+                        return;
+                    }
+                    continue;
+                }
+                pending.write(chunk);
+                if (pending.size() >= coalesceSize) {
+                    if (!offer(pending.toByteArray())) {
+                        return;
+                    }
+                    pending.reset();
+                }
             }
-            
-            if (result instanceof BMap) {
-                BMap<?, ?> record = (BMap<?, ?>) result;
-                Object value = record.get(StringUtils.fromString(STREAM_VALUE));
-                
-                if (value instanceof BArray) {
-                    currentChunk = ((BArray) value).getBytes();
-                    chunkPosition = 0;
-                    return currentChunk.length > 0;
-                } else {
-                    throw new IOException("Unexpected value type in stream");
+            if (pending.size() > 0 && !offer(pending.toByteArray())) {
+                return;
+            }
+            offer(END_OF_STREAM);
+        } catch (IOException | RuntimeException e) {
+            offer(e);
+        }
+    }
+
+    // Waits for space in the queue, giving up once the reader has closed the stream
+    private boolean offer(Object item) {
+        try {
+            while (!closed) {
+                if (prefetched.offer(item, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                    return true;
                 }
-            } else {
-                throw new IOException("Unexpected result type from stream.next()");
             }
-        } catch (Exception e) {
-            throw new IOException("Error reading from Ballerina stream: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
+        return false;
     }
 
     @Override
     public void close() throws IOException {
-        if (!hasCloseMethod) {
+        if (closed) {
             return;
         }
-        
-        Object result = environment.getRuntime().callMethod(
-                ballerinaStream.getIteratorObj(), BAL_STREAM_CLOSE, null);
-        
-        if (result instanceof BError) {
-            throw new IOException(((BError) result).getMessage());
+        closed = true;
+        if (producer != null) {
+            // The source must not be closed while the producer is still reading from it
+            prefetched.clear();
+            producer.exceptionally(t -> null).join();
+            prefetched.clear();
         }
-        
+        source.close();
         endOfStream = true;
         currentChunk = null;
     }
+
+    // Reads chunks by calling next() on the iterator of the Ballerina stream
+    private static class BallerinaChunkSource implements ChunkSource {
+        private static final String BAL_STREAM_CLOSE = "close";
+        private static final String STREAM_VALUE = "value";
+        private static final String BAL_STREAM_NEXT = "next";
+
+        private final Environment environment;
+        private final BStream ballerinaStream;
+        private final boolean hasCloseMethod;
+
+        BallerinaChunkSource(Environment environment, BStream ballerinaStream) {
+            this.environment = environment;
+            this.ballerinaStream = ballerinaStream;
+
+            // Check if stream has a close method
+            Type iteratorType = ballerinaStream.getIteratorObj().getOriginalType();
+            if (iteratorType.getTag() == TypeTags.OBJECT_TYPE_TAG) {
+                ObjectType iteratorObjectType = (ObjectType) iteratorType;
+                MethodType[] methods = iteratorObjectType.getMethods();
+                hasCloseMethod = java.util.Arrays.stream(methods)
+                        .anyMatch(method -> method.getName().equals(BAL_STREAM_CLOSE));
+            } else {
+                hasCloseMethod = false;
+            }
+        }
+
+        @Override
+        public byte[] nextChunk() throws IOException {
+            try {
+                // Call next() method on the stream using Ballerina runtime
+                Object result = environment.getRuntime().callMethod(
+                        ballerinaStream.getIteratorObj(), BAL_STREAM_NEXT, null);
+
+                if (result instanceof BError) {
+                    throw new IOException("Error reading from stream: " + ((BError) result).getMessage());
+                }
+
+                if (result == null) {
+                    return null;
+                }
+
+                if (result instanceof BMap) {
+                    BMap<?, ?> record = (BMap<?, ?>) result;
+                    Object value = record.get(StringUtils.fromString(STREAM_VALUE));
+
+                    if (value instanceof BArray) {
+                        return ((BArray) value).getBytes();
+                    } else {
+                        throw new IOException("Unexpected value type in stream");
+                    }
+                } else {
+                    throw new IOException("Unexpected result type from stream.next()");
+                }
+            } catch (Exception e) {
+                throw new IOException("Error reading from Ballerina stream: " + e.getMessage(), e);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!hasCloseMethod) {
+                return;
+            }
+
+            Object result = environment.getRuntime().callMethod(
+                    ballerinaStream.getIteratorObj(), BAL_STREAM_CLOSE, null);
+
+            if (result instanceof BError) {
+                throw new IOException(((BError) result).getMessage());
+            }
+        }
+    }
 }
@@ -0,0 +1,169 @@
+// Copyright (c) 2025 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+package io.ballerina.lib.aws.s3;
+
+import software.amazon.awssdk.http.Abortable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads an InputStream as a sequence of byte chunks for the Ballerina stream iterator.
+ * Every chunk except the last one is exactly chunkSize bytes, so only the last chunk is copied to trim it.
+ * In read-ahead mode a background thread fills a bounded queue of chunks, so that reading the next chunks from
+ * the network overlaps with the consumer processing the current one.
+ */
+public class ChunkReader {
+    public static final int DEFAULT_CHUNK_SIZE = 4096;
+
+    private static final Object END_OF_STREAM = new Object();
+    private static final long OFFER_TIMEOUT_MILLIS = 100;
+
+    private final InputStream input;
+    private final int chunkSize;
+    private final BlockingQueue<Object> queue;
+    private volatile boolean closed = false;
+    private boolean finished = false;
+
+    /**
+     * @param input            the stream to read
+     * @param chunkSize        size of each chunk in bytes
+     * @param readAheadChunks  number of chunks read ahead of the consumer, or 0 to read on demand
+     */
+    public ChunkReader(InputStream input, int chunkSize, int readAheadChunks) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be a positive value, got: " + chunkSize);
+        }
+        if (readAheadChunks < 0) {
+            throw new IllegalArgumentException("readAheadChunks must not be negative, got: " + readAheadChunks);
+        }
+        this.input = input;
+        this.chunkSize = chunkSize;
+        if (readAheadChunks > 0) {
+            this.queue = new ArrayBlockingQueue<>(readAheadChunks);
+            ParallelExecutor.supply(() -> {
+                readAhead();
+                return null;
+            });
+        } else {
+            this.queue = null;
+        }
+    }
+
+    public boolean isReadAhead() {
+        return queue != null;
+    }
+
+    /**
+     * Returns the next chunk, or null at the end of the stream.
+     */
+    public byte[] next() throws IOException {
+        if (finished) {
+            return null;
+        }
+        if (queue == null) {
+            byte[] chunk = readChunk();
+            finished = chunk == null;
+            return chunk;
+        }
+
+        Object item;
+        try {
+            item = queue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the next chunk");
+        }
+        if (item == END_OF_STREAM) {
+            finished = true;
+            return null;
+        } else if (item instanceof IOException) {
+            finished = true;
+            throw (IOException) item;
+        } else if (item instanceof RuntimeException) {
+            finished = true;
+            throw (RuntimeException) item;
+        }
+        return (byte[]) item;
+    }
+
+    public void close() throws IOException {
+        finished = true;
+        if (queue == null) {
+            input.close();
+            return;
+        }
+        // The reader thread owns the input stream and closes it once it observes the flag. Aborting the request
+        // ends a read that is waiting on the network.
+        closed = true;
+        queue.clear();
+        if (input instanceof Abortable) {
+            ((Abortable) input).abort();
+        }
+    }
+
+    private byte[] readChunk() throws IOException {
+        byte[] chunk = new byte[chunkSize];
+        int bytesRead = input.readNBytes(chunk, 0, chunkSize);
+        if (bytesRead == 0) {
+            return null;
+        }
+        if (bytesRead < chunkSize) {
+            byte[] trimmed = new byte[bytesRead];
+            System.arraycopy(chunk, 0, trimmed, 0, bytesRead);
+            return trimmed;
+        }
+        return chunk;
+    }
+
+    private void readAhead() {
+        try {
+            try {
+                while (!closed) {
+                    byte[] chunk = readChunk();
+                    if (!offer(chunk == null ? END_OF_STREAM : chunk) || chunk == null) {
+                        return;
+                    }
+                }
+            } finally {
+                input.close();
+            }
+        } catch (IOException | RuntimeException e) {
+            if (!closed) {
+                offer(e);
+            }
+        }
+    }
+
+    // Waits for space in the queue, giving up once the consumer has closed the reader
+    private boolean offer(Object item) {
+        try {
+            while (!closed) {
+                if (queue.offer(item, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                    return true;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+}
@@ -0,0 +1,32 @@
+// Copyright (c) 2025 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+package io.ballerina.lib.aws.s3;
+
+import java.io.IOException;
+
+/**
+ * A source of byte chunks that is read by {@link BallerinaStreamInputStream}.
+ */
+public interface ChunkSource {
+
+    /**
+     * Returns the next chunk, or null at the end of the source. Chunks may be empty.
+     */
+    byte[] nextChunk() throws IOException;
+
+    void close() throws IOException;
+}
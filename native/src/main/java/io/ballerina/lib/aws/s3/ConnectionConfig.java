@@ -18,16 +18,41 @@ package io.ballerina.lib.aws.s3;
 
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Configuration;
+
+import java.net.URI;
 
 /**
- * Holds the AWS S3 connection configuration including region and credentials provider.
+ * Holds the AWS S3 connection configuration including region, credentials provider and the endpoint options.
+ * The presigner is created on first use from this configuration, so it signs URLs for the same endpoint as the
+ * clients.
  */
 public class ConnectionConfig {
     public final Region region;
     public final AwsCredentialsProvider credentialsProvider;
+    // Custom endpoint, or null to use the endpoint of the region
+    public final URI endpoint;
+    public final boolean forcePathStyle;
+    public final boolean accelerate;
+    public final boolean dualstack;
 
-    public ConnectionConfig(Region region, AwsCredentialsProvider credentialsProvider) {
+    public ConnectionConfig(Region region, AwsCredentialsProvider credentialsProvider, URI endpoint,
+            boolean forcePathStyle, boolean accelerate, boolean dualstack) {
         this.region = region;
         this.credentialsProvider = credentialsProvider;
+        this.endpoint = endpoint;
+        this.forcePathStyle = forcePathStyle;
+        this.accelerate = accelerate;
+        this.dualstack = dualstack;
+    }
+
+    /**
+     * Returns the S3 service configuration with the addressing style and transfer acceleration options.
+     */
+    public S3Configuration serviceConfiguration() {
+        return S3Configuration.builder()
+                .pathStyleAccessEnabled(forcePathStyle)
+                .accelerateModeEnabled(accelerate)
+                .build();
     }
 }
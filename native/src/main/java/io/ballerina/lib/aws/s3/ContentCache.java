@@ -0,0 +1,424 @@
+// Copyright (c) 2025 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+package io.ballerina.lib.aws.s3;
+
+import software.amazon.awssdk.http.Abortable;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read-through cache of object content in a local directory, bounded by a byte budget with least recently used
+ * eviction. Each object is one file that starts with a header holding the ETag of the content, so that the cached
+ * copy can be revalidated with If-None-Match and the cache survives restarts of the client.
+ * The directory is owned by one client, as files are replaced and evicted without coordination between clients.
+ */
+public final class ContentCache {
+    private static final int MAGIC = 0x53334301;
+    private static final String OBJECT_SUFFIX = ".object";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private final Path directory;
+    private final long maxBytes;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    public ContentCache(Path directory, long maxBytes) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.maxBytes = maxBytes;
+        load();
+    }
+
+    /**
+     * Opens the cached copy of an object.
+     *
+     * @param bucket the bucket of the object
+     * @param key    the key of the object
+     * @return the open copy, which the caller closes, or null if the object is not cached
+     */
+    public synchronized Lease lookup(String bucket, String key) {
+        String name = fileName(bucket, key);
+        Entry entry = entries.get(name);
+        if (entry == null) {
+            return null;
+        }
+        try {
+            FileChannel channel = FileChannel.open(entry.file, StandardOpenOption.READ);
+            channel.position(entry.headerLength);
+            // An open file can still be read after it is evicted, except on platforms that refuse the delete
+            return new Lease(entry.eTag, channel, entry.size - entry.headerLength);
+        } catch (IOException e) {
+            remove(name);
+            return null;
+        }
+    }
+
+    /**
+     * Caches content that was read in full. Failures to write are ignored, as the content is served from memory.
+     */
+    public void store(String bucket, String key, String eTag, byte[] content) {
+        if (eTag == null || content.length > maxBytes) {
+            return;
+        }
+        String name = fileName(bucket, key);
+        Path tempFile = null;
+        try {
+            tempFile = Files.createTempFile(directory, name, TEMP_SUFFIX);
+            long headerLength;
+            try (OutputStream output = Files.newOutputStream(tempFile)) {
+                headerLength = writeHeader(output, eTag);
+                output.write(content);
+            }
+            commit(name, tempFile, eTag, headerLength, headerLength + content.length);
+        } catch (IOException e) {
+            deleteQuietly(tempFile);
+        }
+    }
+
+    /**
+     * Wraps the response stream of an object, so that the content is written to the cache while it is consumed.
+     * The copy is only kept once the stream has been read to its end.
+     *
+     * @param contentLength the length of the content, or -1 if unknown
+     * @return the stream to read the content from
+     */
+    public InputStream storeWhileReading(String bucket, String key, String eTag, long contentLength,
+            InputStream source) {
+        if (eTag == null || contentLength > maxBytes) {
+            return source;
+        }
+        String name = fileName(bucket, key);
+        try {
+            Path tempFile = Files.createTempFile(directory, name, TEMP_SUFFIX);
+            return new CachingInputStream(source, name, eTag, tempFile);
+        } catch (IOException e) {
+            return source;
+        }
+    }
+
+    /**
+     * Drops the cached copy of an object that no longer exists.
+     */
+    public synchronized void remove(String bucket, String key) {
+        remove(fileName(bucket, key));
+    }
+
+    private void remove(String name) {
+        Entry entry = entries.remove(name);
+        if (entry != null) {
+            totalBytes -= entry.size;
+            deleteQuietly(entry.file);
+        }
+    }
+
+    private synchronized void commit(String name, Path tempFile, String eTag, long headerLength, long size)
+            throws IOException {
+        if (size > maxBytes) {
+            deleteQuietly(tempFile);
+            return;
+        }
+        Path file = directory.resolve(name + OBJECT_SUFFIX);
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        Entry previous = entries.put(name, new Entry(file, eTag, headerLength, size));
+        if (previous != null) {
+            totalBytes -= previous.size;
+        }
+        totalBytes += size;
+        Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && eldest.hasNext()) {
+            Map.Entry<String, Entry> candidate = eldest.next();
+            if (candidate.getKey().equals(name)) {
+                continue;
+            }
+            eldest.remove();
+            totalBytes -= candidate.getValue().size;
+            deleteQuietly(candidate.getValue().file);
+        }
+    }
+
+    // Indexes the copies left by a previous client, with the least recently written copies evicted first
+    private void load() throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            for (Path file : stream) {
+                String fileName = file.getFileName().toString();
+                if (fileName.endsWith(TEMP_SUFFIX)) {
+                    deleteQuietly(file);
+                } else if (fileName.endsWith(OBJECT_SUFFIX)) {
+                    files.add(file);
+                }
+            }
+        }
+        files.sort(Comparator.comparing(ContentCache::lastModified));
+        for (Path file : files) {
+            try (DataInputStream input = new DataInputStream(Files.newInputStream(file))) {
+                if (input.readInt() != MAGIC) {
+                    continue;
+                }
+                String eTag = input.readUTF();
+                String fileName = file.getFileName().toString();
+                String name = fileName.substring(0, fileName.length() - OBJECT_SUFFIX.length());
+                long size = Files.size(file);
+                entries.put(name, new Entry(file, eTag, headerLength(eTag), size));
+                totalBytes += size;
+            } catch (IOException e) {
+                deleteQuietly(file);
+            }
+        }
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (totalBytes > maxBytes && eldest.hasNext()) {
+            Entry entry = eldest.next();
+            eldest.remove();
+            totalBytes -= entry.size;
+            deleteQuietly(entry.file);
+        }
+    }
+
+    private static long writeHeader(OutputStream output, String eTag) throws IOException {
+        DataOutputStream header = new DataOutputStream(output);
+        header.writeInt(MAGIC);
+        header.writeUTF(eTag);
+        header.flush();
+        return headerLength(eTag);
+    }
+
+    private static long headerLength(String eTag) {
+        // ETags are ASCII, so the modified UTF-8 of writeUTF is the same as UTF-8
+        return Integer.BYTES + Short.BYTES + eTag.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private static String fileName(String bucket, String key) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest((bucket + '/' + key).getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (NoSuchFileException e) {
+            // Already removed
+        } catch (IOException e) {
+            // Left behind, and removed when the directory is loaded again
+        }
+    }
+
+    private static final class Entry {
+        final Path file;
+        final String eTag;
+        final long headerLength;
+        final long size;
+
+        Entry(Path file, String eTag, long headerLength, long size) {
+            this.file = file;
+            this.eTag = eTag;
+            this.headerLength = headerLength;
+            this.size = size;
+        }
+    }
+
+    /**
+     * An open cached copy of an object, positioned at the start of the content.
+     */
+    public static final class Lease implements AutoCloseable {
+        private final String eTag;
+        private final FileChannel channel;
+        private final long contentLength;
+
+        private Lease(String eTag, FileChannel channel, long contentLength) {
+            this.eTag = eTag;
+            this.channel = channel;
+            this.contentLength = contentLength;
+        }
+
+        public String eTag() {
+            return eTag;
+        }
+
+        public byte[] readAll() throws IOException {
+            if (contentLength > Integer.MAX_VALUE - 8) {
+                throw new IOException("Cached object of " + contentLength + " bytes does not fit in a byte array");
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) contentLength);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    throw new EOFException("Cached object ended after " + buffer.position() + " of "
+                            + contentLength + " bytes");
+                }
+            }
+            return buffer.array();
+        }
+
+        /**
+         * Returns a stream of the content that takes over the file, so closing the stream closes the lease.
+         */
+        public InputStream openStream() {
+            return Channels.newInputStream(channel);
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    // Copies the content to a temporary file as it is read, and moves the file into the cache at the end of the
+    // content. A stream that is closed early or fails leaves nothing behind.
+    private final class CachingInputStream extends FilterInputStream implements Abortable {
+        private final String name;
+        private final String eTag;
+        private final Path tempFile;
+        private OutputStream output;
+        private long headerLength;
+        private long written;
+        private boolean done;
+
+        private CachingInputStream(InputStream source, String name, String eTag, Path tempFile) throws IOException {
+            super(source);
+            this.name = name;
+            this.eTag = eTag;
+            this.tempFile = tempFile;
+            try {
+                this.output = new BufferedOutputStream(Files.newOutputStream(tempFile), WRITE_BUFFER_SIZE);
+                this.headerLength = writeHeader(output, eTag);
+                this.written = headerLength;
+            } catch (IOException e) {
+                deleteQuietly(tempFile);
+                throw e;
+            }
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            if (value < 0) {
+                finish(true);
+            } else {
+                copy(new byte[]{(byte) value}, 0, 1);
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int count = super.read(buffer, offset, length);
+            if (count < 0) {
+                finish(true);
+            } else {
+                copy(buffer, offset, count);
+            }
+            return count;
+        }
+
+        @Override
+        public long skip(long count) throws IOException {
+            // Skipped content would leave a gap in the copy
+            finish(false);
+            return super.skip(count);
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                finish(false);
+            }
+        }
+
+        @Override
+        public void abort() {
+            if (in instanceof Abortable) {
+                ((Abortable) in).abort();
+            }
+        }
+
+        private void copy(byte[] buffer, int offset, int count) {
+            if (done) {
+                return;
+            }
+            try {
+                output.write(buffer, offset, count);
+                written += count;
+                if (written > maxBytes) {
+                    finish(false);
+                }
+            } catch (IOException e) {
+                finish(false);
+            }
+        }
+
+        // A failure to cache never fails the read, the copy is dropped instead
+        private void finish(boolean complete) {
+            if (done) {
+                return;
+            }
+            done = true;
+            try {
+                output.close();
+                if (complete) {
+                    commit(name, tempFile, eTag, headerLength, written);
+                    return;
+                }
+            } catch (IOException e) {
+                // Dropped below
+            }
+            deleteQuietly(tempFile);
+        }
+    }
+}
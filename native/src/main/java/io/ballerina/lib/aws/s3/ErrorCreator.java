@@ -36,6 +36,8 @@ public class ErrorCreator {
     private static final String BUCKET_ALREADY_OWNED_BY_YOU_ERROR = "BucketAlreadyOwnedByYouError";
     private static final String NO_SUCH_BUCKET_ERROR = "NoSuchBucketError";
     private static final String BUCKET_NOT_EMPTY_ERROR = "BucketNotEmptyError";
+    private static final String THROTTLING_ERROR = "ThrottlingError";
+    private static final String CLIENT_ERROR = "ClientError";
 
     /**
      * Initialize the module reference. Should be called during client initialization.
@@ -75,6 +77,17 @@ public class ErrorCreator {
         return io.ballerina.runtime.api.creators.ErrorCreator.createError(StringUtils.fromString(message));
     }
 
+    /**
+     * Creates a Ballerina Error of type `ballerinax/aws.s3:ClientError`, for a request that is rejected before it is
+     * sent.
+     *
+     * @param message The error message
+     * @return BError instance of module's ClientError type
+     */
+    public static BError createClientError(String message) {
+        return createError(CLIENT_ERROR, message);
+    }
+
     /**
      * Creates a Ballerina Error of type `ballerinax/aws.s3:Error` with a cause.
      *
@@ -98,6 +111,9 @@ public class ErrorCreator {
      * @return BError instance of the appropriate error type
      */
     public static BError createError(Throwable t) {
+        if (t instanceof BError) {
+            return (BError) t;
+        }
         if (t instanceof S3Exception) {
             S3Exception s3Ex = (S3Exception) t;
             String errorCode = s3Ex.awsErrorDetails() != null ?
@@ -135,6 +151,17 @@ public class ErrorCreator {
                 return NO_SUCH_BUCKET_ERROR;
             case "BucketNotEmpty":
                 return BUCKET_NOT_EMPTY_ERROR;
+            // S3 answers a request rate that is too high with 503 SlowDown, and the other codes are the
+            // throttling codes of the AWS SDK
+            case "SlowDown":
+            case "Throttling":
+            case "ThrottlingException":
+            case "ThrottledException":
+            case "RequestThrottled":
+            case "RequestThrottledException":
+            case "RequestLimitExceeded":
+            case "TooManyRequestsException":
+                return THROTTLING_ERROR;
             default:
                 return ERROR;
         }
@@ -0,0 +1,37 @@
+// Copyright (c) 2025 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+package io.ballerina.lib.aws.s3;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Compares object keys in the order of S3 listings, which is the order of the UTF-8 bytes of the keys.
+ * This differs from the UTF-16 order of String.compareTo for characters above U+FFFF.
+ */
+public final class KeyOrder {
+    public static final Comparator<String> COMPARATOR = KeyOrder::compare;
+
+    private KeyOrder() {
+    }
+
+    public static int compare(String key, String otherKey) {
+        return Arrays.compareUnsigned(key.getBytes(StandardCharsets.UTF_8), otherKey.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,133 @@
+// Copyright (c) 2025 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+package io.ballerina.lib.aws.s3;
+
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-client cache of HeadObject results, bounded by a number of entries with least recently used eviction.
+ * Entries expire after a time to live, and keys that do not exist are cached with their own time to live.
+ * Writes through the client invalidate the entries of the keys they change.
+ */
+public final class MetadataCache {
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final long negativeTtlNanos;
+    private final LinkedHashMap<String, Entry> entries;
+    // Incremented by each invalidation, so that a HEAD that was in flight during a write does not cache the
+    // metadata from before the write
+    private long generation;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public MetadataCache(int maxEntries, long ttlNanos, long negativeTtlNanos) {
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttlNanos;
+        this.negativeTtlNanos = negativeTtlNanos;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Returns the live entry of an object, or null if the object has to be fetched.
+     *
+     * @param bucket the bucket of the object
+     * @param key    the key of the object
+     * @return the cached entry or null
+     */
+    public synchronized Entry get(String bucket, String key) {
+        String cacheKey = cacheKey(bucket, key);
+        Entry entry = entries.get(cacheKey);
+        if (entry != null && entry.expiresAt - System.nanoTime() > 0) {
+            hits++;
+            return entry;
+        }
+        if (entry != null) {
+            entries.remove(cacheKey);
+        }
+        misses++;
+        return null;
+    }
+
+    /**
+     * Returns the current generation, which is passed to put once the HEAD request of a miss completes.
+     *
+     * @return the generation
+     */
+    public synchronized long generation() {
+        return generation;
+    }
+
+    public synchronized void put(String bucket, String key, HeadObjectResponse response, long fetchGeneration) {
+        store(bucket, key, new Entry(response, null, System.nanoTime() + ttlNanos), fetchGeneration);
+    }
+
+    public synchronized void putMissing(String bucket, String key, NoSuchKeyException missing,
+            long fetchGeneration) {
+        if (negativeTtlNanos > 0) {
+            store(bucket, key, new Entry(null, missing, System.nanoTime() + negativeTtlNanos), fetchGeneration);
+        }
+    }
+
+    private void store(String bucket, String key, Entry entry, long fetchGeneration) {
+        if (fetchGeneration != generation) {
+            return;
+        }
+        entries.put(cacheKey(bucket, key), entry);
+        if (entries.size() > maxEntries) {
+            Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+            eldest.next();
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    public synchronized void invalidate(String bucket, String key) {
+        generation++;
+        entries.remove(cacheKey(bucket, key));
+    }
+
+    public synchronized long[] stats() {
+        return new long[]{hits, misses, evictions, entries.size()};
+    }
+
+    private static String cacheKey(String bucket, String key) {
+        // Bucket names cannot contain '/', so the first '/' separates the bucket from the key
+        return bucket + '/' + key;
+    }
+
+    /**
+     * A cached HEAD result, which holds either the response or the error of a missing object.
+     */
+    public static final class Entry {
+        final HeadObjectResponse response;
+        final NoSuchKeyException missing;
+        final long expiresAt;
+
+        Entry(HeadObjectResponse response, NoSuchKeyException missing, long expiresAt) {
+            this.response = response;
+            this.missing = missing;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,256 @@
+// Copyright (c) 2025 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+package io.ballerina.lib.aws.s3;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects the metrics of the requests of a client, per S3 operation.
+ * As an execution interceptor it measures latency, payload sizes and requests in flight, and as a metric publisher
+ * it takes the attempt counts, throttling errors and connection pool state that the SDK reports for each request.
+ */
+public final class MetricsCollector implements ExecutionInterceptor, MetricPublisher {
+    private static final Logger LOG = LoggerFactory.getLogger(MetricsCollector.class);
+    private static final ExecutionAttribute<Long> START_TIME = new ExecutionAttribute<>("AwsS3RequestStartTime");
+    private static final String CONTENT_LENGTH = "Content-Length";
+    private static final String API_CALL_ATTEMPT = "ApiCallAttempt";
+    private static final String HTTP_CLIENT = "HttpClient";
+    private static final String THROTTLING = "Throttling";
+
+    private final long slowRequestNanos;
+    private final Map<String, OperationMetrics> operations = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile int leasedConnections;
+    private volatile int availableConnections;
+    private volatile int pendingConnectionAcquires;
+
+    /**
+     * @param slowRequestThreshold requests that take at least this long are logged, or null to log none
+     */
+    public MetricsCollector(Duration slowRequestThreshold) {
+        this.slowRequestNanos = slowRequestThreshold != null ? slowRequestThreshold.toNanos() : Long.MAX_VALUE;
+    }
+
+    @Override
+    public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes attributes) {
+        attributes.putAttribute(START_TIME, System.nanoTime());
+        inFlight.incrementAndGet();
+    }
+
+    @Override
+    public void afterTransmission(Context.AfterTransmission context, ExecutionAttributes attributes) {
+        // Counted for every attempt, as each attempt sends and receives its payload
+        OperationMetrics metrics = operation(attributes);
+        metrics.bytesSent.add(contentLength(context.httpRequest().firstMatchingHeader(CONTENT_LENGTH)));
+        metrics.bytesReceived.add(contentLength(context.httpResponse().firstMatchingHeader(CONTENT_LENGTH)));
+    }
+
+    @Override
+    public void afterExecution(Context.AfterExecution context, ExecutionAttributes attributes) {
+        complete(context.request(), attributes, false);
+    }
+
+    @Override
+    public void onExecutionFailure(Context.FailedExecution context, ExecutionAttributes attributes) {
+        complete(context.request(), attributes, true);
+    }
+
+    private void complete(SdkRequest request, ExecutionAttributes attributes, boolean failed) {
+        inFlight.decrementAndGet();
+        Long startTime = attributes.getAttribute(START_TIME);
+        if (startTime == null) {
+            return;
+        }
+        long elapsed = System.nanoTime() - startTime;
+        OperationMetrics metrics = operation(attributes);
+        metrics.requests.increment();
+        if (failed) {
+            metrics.errors.increment();
+        }
+        metrics.latency.record(elapsed);
+        if (elapsed >= slowRequestNanos && LOG.isWarnEnabled()) {
+            LOG.warn("Slow S3 request: {} of {}/{} took {} ms{}", operationName(attributes),
+                    request.getValueForField("Bucket", String.class).orElse(""),
+                    request.getValueForField("Key", String.class).orElse(""),
+                    elapsed / 1_000_000, failed ? " and failed" : "");
+        }
+    }
+
+    @Override
+    public void publish(MetricCollection collection) {
+        List<String> names = collection.metricValues(CoreMetric.OPERATION_NAME);
+        if (names.isEmpty()) {
+            return;
+        }
+        OperationMetrics metrics = operations.computeIfAbsent(names.get(0), name -> new OperationMetrics());
+        collection.childrenWithName(API_CALL_ATTEMPT).forEach(attempt -> {
+            metrics.attempts.increment();
+            if (attempt.metricValues(CoreMetric.ERROR_TYPE).contains(THROTTLING)) {
+                metrics.throttled.increment();
+            }
+            attempt.childrenWithName(HTTP_CLIENT).forEach(http -> {
+                last(http.metricValues(HttpMetric.LEASED_CONCURRENCY)).ifPresent(val -> leasedConnections = val);
+                last(http.metricValues(HttpMetric.AVAILABLE_CONCURRENCY))
+                        .ifPresent(val -> availableConnections = val);
+                last(http.metricValues(HttpMetric.PENDING_CONCURRENCY_ACQUIRES))
+                        .ifPresent(val -> pendingConnectionAcquires = val);
+            });
+        });
+    }
+
+    @Override
+    public void close() {
+    }
+
+    public int inFlightRequests() {
+        return inFlight.get();
+    }
+
+    public int leasedConnections() {
+        return leasedConnections;
+    }
+
+    public int availableConnections() {
+        return availableConnections;
+    }
+
+    public int pendingConnectionAcquires() {
+        return pendingConnectionAcquires;
+    }
+
+    public Map<String, OperationMetrics> operations() {
+        return operations;
+    }
+
+    private OperationMetrics operation(ExecutionAttributes attributes) {
+        return operations.computeIfAbsent(operationName(attributes), name -> new OperationMetrics());
+    }
+
+    private static String operationName(ExecutionAttributes attributes) {
+        String name = attributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME);
+        return name != null ? name : "Unknown";
+    }
+
+    private static long contentLength(Optional<String> header) {
+        try {
+            return header.map(Long::parseLong).orElse(0L);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    // The pool state reported by the most recent request
+    private static <T> Optional<T> last(List<T> values) {
+        return values.isEmpty() ? Optional.empty() : Optional.of(values.get(values.size() - 1));
+    }
+
+    /**
+     * Counters of one S3 operation.
+     */
+    public static final class OperationMetrics {
+        final LongAdder requests = new LongAdder();
+        final LongAdder errors = new LongAdder();
+        final LongAdder attempts = new LongAdder();
+        final LongAdder throttled = new LongAdder();
+        final LongAdder bytesSent = new LongAdder();
+        final LongAdder bytesReceived = new LongAdder();
+        final LatencyHistogram latency = new LatencyHistogram();
+    }
+
+    /**
+     * Histogram of latencies in microseconds with logarithmic buckets, each split into eight linear sub-buckets,
+     * so that a percentile is reported within 12.5% of the recorded value with a fixed amount of memory.
+     */
+    public static final class LatencyHistogram {
+        private static final int SUB_BUCKET_BITS = 3;
+        private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+        private final AtomicLongArray counts = new AtomicLongArray(Long.SIZE * SUB_BUCKETS);
+        private final LongAdder total = new LongAdder();
+        private final AtomicLong max = new AtomicLong();
+
+        void record(long nanos) {
+            long micros = Math.max(0, nanos / 1000);
+            counts.incrementAndGet(index(micros));
+            total.increment();
+            max.accumulateAndGet(micros, Math::max);
+        }
+
+        /**
+         * Returns the latency in microseconds that the given fraction of the requests did not exceed.
+         */
+        public long percentile(double fraction) {
+            long count = total.sum();
+            if (count == 0) {
+                return 0;
+            }
+            long target = Math.max(1, (long) Math.ceil(fraction * count));
+            long seen = 0;
+            for (int i = 0; i < counts.length(); i++) {
+                seen += counts.get(i);
+                if (seen >= target) {
+                    return Math.min(upperBound(i), max.get());
+                }
+            }
+            return max.get();
+        }
+
+        public long max() {
+            return max.get();
+        }
+
+        private static int index(long micros) {
+            if (micros < SUB_BUCKETS) {
+                return (int) micros;
+            }
+            int magnitude = Long.SIZE - 1 - Long.numberOfLeadingZeros(micros);
+            int subBucket = (int) (micros >>> (magnitude - SUB_BUCKET_BITS)) - SUB_BUCKETS;
+            return (magnitude - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+        }
+
+        private static long upperBound(int index) {
+            if (index < SUB_BUCKETS) {
+                return index;
+            }
+            int magnitude = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+            int subBucket = index % SUB_BUCKETS;
+            return ((long) (SUB_BUCKETS + subBucket + 1) << (magnitude - SUB_BUCKET_BITS)) - 1;
+        }
+    }
+}
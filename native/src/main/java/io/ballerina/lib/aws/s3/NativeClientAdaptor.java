@@ -19,10 +19,11 @@ package io.ballerina.lib.aws.s3;
 import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
-import io.ballerina.runtime.api.types.MapType;
 import io.ballerina.runtime.api.types.PredefinedTypes;
 import io.ballerina.runtime.api.values.BStream;
 import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BFunctionPointer;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BMap;
@@ -38,13 +39,35 @@ import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.ProfileCredentialsProvider;
 import software.amazon.awssdk.profiles.ProfileFile;
 
+import software.amazon.awssdk.awscore.retry.AwsRetryStrategy;
+import software.amazon.awssdk.core.FileRequestBodyConfiguration;
 import software.amazon.awssdk.core.ResponseBytes;
 import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.BlockingInputStreamAsyncRequestBody;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
 import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.retries.api.BackoffStrategy;
+import software.amazon.awssdk.retries.api.RetryStrategy;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3AsyncClientBuilder;
+import software.amazon.awssdk.services.s3.S3BaseClientBuilder;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.S3CrtAsyncClientBuilder;
+import software.amazon.awssdk.services.s3.crt.S3CrtRetryConfiguration;
 import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.Bucket;
+import software.amazon.awssdk.services.s3.model.BucketLocationConstraint;
+import software.amazon.awssdk.services.s3.model.ChecksumMode;
+import software.amazon.awssdk.services.s3.model.ChecksumType;
 import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
 import software.amazon.awssdk.services.s3.model.CompletedPart;
 import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
@@ -53,18 +76,30 @@ import software.amazon.awssdk.services.s3.model.CreateBucketRequest;
 import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
 import software.amazon.awssdk.services.s3.model.DeleteBucketRequest;
+import software.amazon.awssdk.services.s3.model.Delete;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
 import software.amazon.awssdk.services.s3.model.GetBucketLocationRequest;
 import software.amazon.awssdk.services.s3.model.GetBucketLocationResponse;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectTaggingRequest;
 import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
 import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.model.S3Exception;
 import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.model.Tag;
+import software.amazon.awssdk.services.s3.model.Tagging;
+import software.amazon.awssdk.services.s3.model.UploadPartCopyRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartCopyResponse;
 import software.amazon.awssdk.services.s3.model.UploadPartRequest;
 import software.amazon.awssdk.services.s3.model.UploadPartResponse;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
@@ -73,20 +108,81 @@ import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignReques
 import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 public class NativeClientAdaptor {
 
     private static final String NATIVE_CLIENT = "NATIVE_S3_CLIENT";
+    private static final String NATIVE_ASYNC_CLIENT = "NATIVE_S3_ASYNC_CLIENT";
+    private static final String NATIVE_TRANSFER_CLIENT = "NATIVE_S3_TRANSFER_CLIENT";
     private static final String NATIVE_CONFIG = "NATIVE_CONNECTION_CONFIG";
+    private static final String NATIVE_PRESIGNER = "NATIVE_S3_PRESIGNER";
+    private static final String NATIVE_METADATA_CACHE = "NATIVE_S3_METADATA_CACHE";
+    private static final String NATIVE_CONTENT_CACHE = "NATIVE_S3_CONTENT_CACHE";
+    private static final String NATIVE_METRICS = "NATIVE_S3_METRICS";
+    private static final String HTTP_CLIENT_URL_CONNECTION = "URL_CONNECTION";
+    private static final String OCTET_STREAM = "application/octet-stream";
+    private static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+    private static final long DEFAULT_PART_SIZE = 8L * 1024 * 1024;
+    private static final long DEFAULT_MAX_CONCURRENCY = 8;
+    private static final long MAX_PART_COUNT = 10_000;
+    // Upper bound of the ranged GETs of a parallel download, which keeps the part index within an int
+    private static final long MAX_RANGE_COUNT = 10_000;
+    private static final int FILE_WRITE_BUFFER_SIZE = 256 * 1024;
+    private static final long MAX_BUFFERED_PART_SIZE = Integer.MAX_VALUE - 8;
+    private static final long DEFAULT_COALESCE_SIZE = 64 * 1024;
+    private static final int MAX_DELETE_BATCH_SIZE = 1000;
+    private static final long MAX_COPY_PART_SIZE = 5L * 1024 * 1024 * 1024;
+    private static final long DEFAULT_CACHE_ENTRIES = 10_000;
+    private static final Duration DEFAULT_CACHE_TTL = Duration.ofSeconds(60);
+    private static final Duration DEFAULT_CACHE_NEGATIVE_TTL = Duration.ofSeconds(10);
+    private static final String[] HEAD_OBJECT_CONDITIONS = {"versionId", "partNumber", "ifMatch", "ifNoneMatch",
+            "ifModifiedSince", "ifUnmodifiedSince"};
+    private static final String[] GET_OBJECT_CONDITIONS = {"versionId", "range", "partNumber", "ifMatch",
+            "ifNoneMatch", "ifModifiedSince", "ifUnmodifiedSince"};
+    private static final long DEFAULT_CONTENT_CACHE_SIZE = 1024L * 1024 * 1024;
+    private static final int HTTP_NOT_MODIFIED = 304;
+    private static final String RETRY_MODE_STANDARD = "STANDARD";
+    private static final String RETRY_MODE_ADAPTIVE = "ADAPTIVE";
+    private static final String RETRY_MODE_LEGACY = "LEGACY";
+    private static final String CHECKSUM_SHA256 = "SHA256";
+    private static final Duration DEFAULT_BACKOFF_BASE = Duration.ofMillis(100);
+    private static final Duration DEFAULT_BACKOFF_CAP = Duration.ofSeconds(20);
 
     private static Optional<String> getStringConfig(BMap<BString, Object> config, String key) {
         if (config.containsKey(StringUtils.fromString(key))) {
@@ -121,6 +217,35 @@ public class NativeClientAdaptor {
         return Optional.empty();
     }
 
+    private static Optional<Double> getDoubleConfig(BMap<BString, Object> config, String key) {
+        if (config.containsKey(StringUtils.fromString(key))) {
+            Object obj = config.get(StringUtils.fromString(key));
+            if (obj instanceof BDecimal) {
+                return Optional.of(((BDecimal) obj).decimalValue().doubleValue());
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static Optional<Long> getPositiveLongConfig(BMap<BString, Object> config, String key) {
+        Optional<Long> value = getLongConfig(config, key);
+        if (value.isPresent() && value.get() <= 0) {
+            throw new IllegalArgumentException(key + " must be a positive value, got: " + value.get());
+        }
+        return value;
+    }
+
+    private static Optional<Duration> getDurationConfig(BMap<BString, Object> config, String key) {
+        if (config.containsKey(StringUtils.fromString(key))) {
+            Object obj = config.get(StringUtils.fromString(key));
+            if (obj instanceof BDecimal) {
+                long millis = ((BDecimal) obj).decimalValue().movePointRight(3).longValue();
+                return Optional.of(Duration.ofMillis(millis));
+            }
+        }
+        return Optional.empty();
+    }
+
     @SuppressWarnings("unchecked")
     private static Optional<Map<String, String>> getMetadataConfig(BMap<BString, Object> config, String key) {
         if (config.containsKey(StringUtils.fromString(key))) {
@@ -158,6 +283,10 @@ public class NativeClientAdaptor {
         getLongConfig(config, key).ifPresent(val -> setter.accept(val.intValue()));
     }
 
+    private static void applyDurationConfig(BMap<BString, Object> config, String key, Consumer<Duration> setter) {
+        getDurationConfig(config, key).ifPresent(setter);
+    }
+
     private static void applyMetadataConfig(BMap<BString, Object> config, String key,
             Consumer<Map<String, String>> setter) {
         getMetadataConfig(config, key).ifPresent(setter);
@@ -168,6 +297,7 @@ public class NativeClientAdaptor {
     }
 
     // Client Initialization Method
+    @SuppressWarnings("unchecked")
     public static Object initClient(Environment env, BObject clientObj, BMap<BString, Object> config) {
         try {
             ErrorCreator.initModule(env);
@@ -182,14 +312,70 @@ public class NativeClientAdaptor {
             Object auth = authObj;
             AwsCredentialsProvider credentialsProvider = createCredentialsProvider(auth);
 
-            S3Client s3Client = S3Client.builder()
-                    .region(Region.of(region))
-                    .credentialsProvider(credentialsProvider)
-                    .crossRegionAccessEnabled(true)
-                    .build();
+            Object transportObj = config.get(StringUtils.fromString("transport"));
+            BMap<BString, Object> transport = transportObj instanceof BMap
+                    ? (BMap<BString, Object>) transportObj : null;
+
+            Object metricsObj = config.get(StringUtils.fromString("metrics"));
+            MetricsCollector metrics = metricsObj instanceof BMap ? new MetricsCollector(
+                    getDurationConfig((BMap<BString, Object>) metricsObj, "slowRequestThreshold").orElse(null))
+                    : null;
+            Object retryObj = config.get(StringUtils.fromString("retry"));
+            BMap<BString, Object> retry = retryObj instanceof BMap ? (BMap<BString, Object>) retryObj : null;
+            RetryStrategy retryStrategy = retry != null ? createRetryStrategy(retry) : null;
+            ConnectionConfig connConfig = createConnectionConfig(Region.of(region), credentialsProvider, config);
+
+            if (getBooleanConfig(config, "useAsyncClient").orElse(false)) {
+                S3AsyncClientBuilder clientBuilder = S3AsyncClient.builder()
+                        .region(Region.of(region))
+                        .credentialsProvider(credentialsProvider)
+                        .crossRegionAccessEnabled(true);
+                applyEndpointConfig(clientBuilder, connConfig);
+                if (transport != null) {
+                    clientBuilder.httpClientBuilder(createAsyncHttpClientBuilder(transport));
+                }
+                clientBuilder.overrideConfiguration(
+                        override -> applyOverrideConfiguration(override, metrics, retryStrategy));
+                clientObj.addNativeData(NATIVE_ASYNC_CLIENT, clientBuilder.build());
+            } else {
+                S3ClientBuilder clientBuilder = S3Client.builder()
+                        .region(Region.of(region))
+                        .credentialsProvider(credentialsProvider)
+                        .crossRegionAccessEnabled(true);
+                applyEndpointConfig(clientBuilder, connConfig);
+                if (transport != null) {
+                    clientBuilder.httpClientBuilder(createHttpClientBuilder(transport));
+                }
+                clientBuilder.overrideConfiguration(
+                        override -> applyOverrideConfiguration(override, metrics, retryStrategy));
+                clientObj.addNativeData(NATIVE_CLIENT, clientBuilder.build());
+            }
+
+            Object crtTransferObj = config.get(StringUtils.fromString("crtTransfer"));
+            if (crtTransferObj instanceof BMap) {
+                clientObj.addNativeData(NATIVE_TRANSFER_CLIENT, createTransferClient(connConfig,
+                        (BMap<BString, Object>) crtTransferObj, retryStrategy));
+            }
+
+            Object metadataCacheObj = config.get(StringUtils.fromString("metadataCache"));
+            if (metadataCacheObj instanceof BMap) {
+                clientObj.addNativeData(NATIVE_METADATA_CACHE,
+                        createMetadataCache((BMap<BString, Object>) metadataCacheObj));
+            }
+
+            Object contentCacheObj = config.get(StringUtils.fromString("contentCache"));
+            if (contentCacheObj instanceof BMap) {
+                BMap<BString, Object> contentCache = (BMap<BString, Object>) contentCacheObj;
+                clientObj.addNativeData(NATIVE_CONTENT_CACHE, new ContentCache(
+                        Paths.get(getStringConfig(contentCache, "directory").orElseThrow(
+                                () -> new IllegalArgumentException("contentCache directory must not be empty"))),
+                        getPositiveLongConfig(contentCache, "maxBytes").orElse(DEFAULT_CONTENT_CACHE_SIZE)));
+            }
+
+            if (metrics != null) {
+                clientObj.addNativeData(NATIVE_METRICS, metrics);
+            }
 
-            clientObj.addNativeData(NATIVE_CLIENT, s3Client);
-            ConnectionConfig connConfig = new ConnectionConfig(Region.of(region), credentialsProvider);
             clientObj.addNativeData(NATIVE_CONFIG, connConfig);
             return null;
         } catch (Exception e) {
@@ -197,20 +383,203 @@ public class NativeClientAdaptor {
         }
     }
 
+    // Read the endpoint options. The combinations that the S3 endpoint rules reject are reported when the client
+    // is created instead of on the first request
+    private static ConnectionConfig createConnectionConfig(Region region, AwsCredentialsProvider credentialsProvider,
+            BMap<BString, Object> config) {
+        URI endpoint = getStringConfig(config, "endpoint").map(NativeClientAdaptor::parseEndpoint).orElse(null);
+        boolean forcePathStyle = getBooleanConfig(config, "forcePathStyle").orElse(false);
+        boolean accelerate = getBooleanConfig(config, "accelerate").orElse(false);
+        boolean dualstack = getBooleanConfig(config, "dualstack").orElse(false);
+        if (accelerate && forcePathStyle) {
+            throw new IllegalArgumentException("accelerate cannot be used with forcePathStyle");
+        }
+        if (endpoint != null && (accelerate || dualstack)) {
+            throw new IllegalArgumentException("accelerate and dualstack cannot be used with a custom endpoint");
+        }
+        return new ConnectionConfig(region, credentialsProvider, endpoint, forcePathStyle, accelerate, dualstack);
+    }
+
+    private static URI parseEndpoint(String endpoint) {
+        URI uri;
+        try {
+            uri = new URI(endpoint);
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException("Invalid endpoint: " + endpoint, e);
+        }
+        if (!("http".equalsIgnoreCase(uri.getScheme()) || "https".equalsIgnoreCase(uri.getScheme()))
+                || uri.getHost() == null) {
+            throw new IllegalArgumentException("endpoint must be an http or https URL, got: " + endpoint);
+        }
+        return uri;
+    }
+
+    private static void applyEndpointConfig(S3BaseClientBuilder<?, ?> builder, ConnectionConfig connConfig) {
+        builder.serviceConfiguration(connConfig.serviceConfiguration());
+        builder.dualstackEnabled(connConfig.dualstack);
+        if (connConfig.endpoint != null) {
+            builder.endpointOverride(connConfig.endpoint);
+        }
+    }
+
+    // Build the cache of HeadObject results based on the metadata cache configuration
+    private static MetadataCache createMetadataCache(BMap<BString, Object> cacheConfig) {
+        long maxEntries = getPositiveLongConfig(cacheConfig, "maxEntries").orElse(DEFAULT_CACHE_ENTRIES);
+        Duration ttl = getDurationConfig(cacheConfig, "ttl").orElse(DEFAULT_CACHE_TTL);
+        Duration negativeTtl = getDurationConfig(cacheConfig, "negativeTtl").orElse(DEFAULT_CACHE_NEGATIVE_TTL);
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("ttl must be a positive value, got: " + ttl.toMillis() / 1000.0);
+        }
+        if (negativeTtl.isNegative()) {
+            throw new IllegalArgumentException(
+                    "negativeTtl must not be negative, got: " + negativeTtl.toMillis() / 1000.0);
+        }
+        return new MetadataCache((int) Math.min(maxEntries, Integer.MAX_VALUE), ttl.toNanos(),
+                negativeTtl.toNanos());
+    }
+
+    // Build the retry strategy based on the retry configuration. The AWS strategies treat SlowDown and the other
+    // throttling errors as throttling, which the adaptive strategy uses to limit the rate of requests
+    private static RetryStrategy createRetryStrategy(BMap<BString, Object> retry) {
+        String mode = getStringConfig(retry, "mode").orElse(RETRY_MODE_STANDARD);
+        RetryStrategy.Builder<?, ?> builder;
+        if (RETRY_MODE_ADAPTIVE.equals(mode)) {
+            builder = AwsRetryStrategy.adaptiveRetryStrategy().toBuilder();
+        } else if (RETRY_MODE_LEGACY.equals(mode)) {
+            builder = AwsRetryStrategy.legacyRetryStrategy().toBuilder();
+        } else {
+            builder = AwsRetryStrategy.standardRetryStrategy().toBuilder();
+        }
+        getPositiveLongConfig(retry, "maxAttempts").ifPresent(val -> builder.maxAttempts(val.intValue()));
+
+        Optional<Duration> backoffBase = getDurationConfig(retry, "backoffBase");
+        Optional<Duration> backoffCap = getDurationConfig(retry, "backoffCap");
+        if (backoffBase.isPresent() || backoffCap.isPresent()) {
+            Duration base = backoffBase.orElse(DEFAULT_BACKOFF_BASE);
+            Duration cap = backoffCap.orElse(DEFAULT_BACKOFF_CAP);
+            if (base.isNegative() || base.isZero()) {
+                throw new IllegalArgumentException("backoffBase must be a positive value, got: "
+                        + base.toMillis() / 1000.0);
+            }
+            if (cap.compareTo(base) < 0) {
+                throw new IllegalArgumentException("backoffCap must not be less than backoffBase, got: "
+                        + cap.toMillis() / 1000.0);
+            }
+            builder.backoffStrategy(BackoffStrategy.exponentialDelay(base, cap));
+        }
+        return builder.build();
+    }
+
+    private static void applyOverrideConfiguration(ClientOverrideConfiguration.Builder override,
+            MetricsCollector metrics, RetryStrategy retryStrategy) {
+        if (metrics != null) {
+            override.addExecutionInterceptor(metrics).addMetricPublisher(metrics);
+        }
+        if (retryStrategy != null) {
+            override.retryStrategy(retryStrategy);
+        }
+    }
+
+    // Build the AWS CRT based client that splits uploads and downloads into parallel part requests
+    private static S3AsyncClient createTransferClient(ConnectionConfig connConfig, BMap<BString, Object> crtTransfer,
+            RetryStrategy retryStrategy) {
+        if (connConfig.dualstack) {
+            throw new IllegalArgumentException("dualstack is not supported by the CRT transfer client");
+        }
+        S3CrtAsyncClientBuilder builder = S3AsyncClient.crtBuilder()
+                .region(connConfig.region)
+                .credentialsProvider(connConfig.credentialsProvider)
+                .crossRegionAccessEnabled(true)
+                .forcePathStyle(connConfig.forcePathStyle)
+                .accelerate(connConfig.accelerate);
+        if (connConfig.endpoint != null) {
+            builder.endpointOverride(connConfig.endpoint);
+        }
+        Optional<Double> targetThroughput = getDoubleConfig(crtTransfer, "targetThroughputInGbps");
+        if (targetThroughput.isPresent() && targetThroughput.get() <= 0) {
+            throw new IllegalArgumentException(
+                    "targetThroughputInGbps must be a positive value, got: " + targetThroughput.get());
+        }
+        targetThroughput.ifPresent(builder::targetThroughputInGbps);
+        getPositiveLongConfig(crtTransfer, "minimumPartSize").ifPresent(builder::minimumPartSizeInBytes);
+        getPositiveLongConfig(crtTransfer, "maxConcurrency").ifPresent(val -> builder.maxConcurrency(val.intValue()));
+        getPositiveLongConfig(crtTransfer, "initialReadBufferSize").ifPresent(builder::initialReadBufferSizeInBytes);
+        if (retryStrategy != null) {
+            // The CRT client has its own retry logic, which only takes the number of retries
+            builder.retryConfiguration(S3CrtRetryConfiguration.builder()
+                    .numRetries(retryStrategy.maxAttempts() - 1)
+                    .build());
+        }
+        return builder.build();
+    }
+
+    // Build the sync HTTP client based on the transport configuration
+    private static SdkHttpClient.Builder<?> createHttpClientBuilder(BMap<BString, Object> transport) {
+        Optional<Long> maxConnections = getPositiveLongConfig(transport, "maxConnections");
+        String httpClientType = getStringConfig(transport, "httpClientType").orElse("APACHE");
+        if (HTTP_CLIENT_URL_CONNECTION.equals(httpClientType)) {
+            // HttpURLConnection relies on the JVM wide keep-alive cache, so the pool settings are not applicable
+            UrlConnectionHttpClient.Builder builder = UrlConnectionHttpClient.builder();
+            applyDurationConfig(transport, "connectionTimeout", builder::connectionTimeout);
+            applyDurationConfig(transport, "socketTimeout", builder::socketTimeout);
+            return builder;
+        }
+
+        ApacheHttpClient.Builder builder = ApacheHttpClient.builder();
+        maxConnections.ifPresent(val -> builder.maxConnections(val.intValue()));
+        applyDurationConfig(transport, "connectionAcquisitionTimeout", builder::connectionAcquisitionTimeout);
+        applyDurationConfig(transport, "connectionTimeout", builder::connectionTimeout);
+        applyDurationConfig(transport, "socketTimeout", builder::socketTimeout);
+        applyDurationConfig(transport, "connectionMaxIdleTime", builder::connectionMaxIdleTime);
+        applyDurationConfig(transport, "connectionTimeToLive", builder::connectionTimeToLive);
+        applyBooleanConfig(transport, "tcpKeepAlive", builder::tcpKeepAlive);
+        return builder;
+    }
+
+    // Build the Netty based non-blocking HTTP client based on the transport configuration
+    private static SdkAsyncHttpClient.Builder<?> createAsyncHttpClientBuilder(BMap<BString, Object> transport) {
+        NettyNioAsyncHttpClient.Builder builder = NettyNioAsyncHttpClient.builder();
+        getPositiveLongConfig(transport, "maxConnections").ifPresent(val -> builder.maxConcurrency(val.intValue()));
+        applyDurationConfig(transport, "connectionAcquisitionTimeout", builder::connectionAcquisitionTimeout);
+        applyDurationConfig(transport, "connectionTimeout", builder::connectionTimeout);
+        applyDurationConfig(transport, "socketTimeout", builder::readTimeout);
+        applyDurationConfig(transport, "socketTimeout", builder::writeTimeout);
+        applyDurationConfig(transport, "connectionMaxIdleTime", builder::connectionMaxIdleTime);
+        applyDurationConfig(transport, "connectionTimeToLive", builder::connectionTimeToLive);
+        applyBooleanConfig(transport, "tcpKeepAlive", builder::tcpKeepAlive);
+        return builder;
+    }
+
     // Close client and release resources
     public static Object closeClient(BObject clientObj) {
-        Object nativeClient = clientObj.getNativeData(NATIVE_CLIENT);
-        if (nativeClient instanceof S3Client) {
-            try {
+        try {
+            Object nativeClient = clientObj.getNativeData(NATIVE_CLIENT);
+            if (nativeClient instanceof S3Client) {
                 ((S3Client) nativeClient).close();
-                return null;
-            } catch (Exception e) {
-                return ErrorCreator.createError(e);
-            } finally {
-                clientObj.addNativeData(NATIVE_CLIENT, null);
             }
+            Object nativeAsyncClient = clientObj.getNativeData(NATIVE_ASYNC_CLIENT);
+            if (nativeAsyncClient instanceof S3AsyncClient) {
+                ((S3AsyncClient) nativeAsyncClient).close();
+            }
+            Object nativeTransferClient = clientObj.getNativeData(NATIVE_TRANSFER_CLIENT);
+            if (nativeTransferClient instanceof S3AsyncClient) {
+                ((S3AsyncClient) nativeTransferClient).close();
+            }
+            synchronized (clientObj) {
+                Object presigner = clientObj.getNativeData(NATIVE_PRESIGNER);
+                if (presigner instanceof S3Presigner) {
+                    ((S3Presigner) presigner).close();
+                }
+                clientObj.addNativeData(NATIVE_PRESIGNER, null);
+            }
+            return null;
+        } catch (Exception e) {
+            return ErrorCreator.createError(e);
+        } finally {
+            clientObj.addNativeData(NATIVE_CLIENT, null);
+            clientObj.addNativeData(NATIVE_ASYNC_CLIENT, null);
+            clientObj.addNativeData(NATIVE_TRANSFER_CLIENT, null);
         }
-        return null;
     }
 
     // Method for credentials provider based on auth config
@@ -264,7 +633,7 @@ public class NativeClientAdaptor {
                 String credentialsFilePath = ((BString) credentialsFilePathObj).getValue();
                 if (!credentialsFilePath.isEmpty()) {
                     ProfileFile profileFile = ProfileFile.builder()
-                            .content(java.nio.file.Paths.get(credentialsFilePath))
+                            .content(Paths.get(credentialsFilePath))
                             .type(ProfileFile.Type.CREDENTIALS)
                             .build();
                     return ProfileCredentialsProvider.builder()
@@ -278,14 +647,68 @@ public class NativeClientAdaptor {
         return ProfileCredentialsProvider.create(profileName);
     }
 
+    // Returns the S3Client or, when the client runs in async mode, the S3AsyncClient
     private static Object getClient(BObject clientObj) {
-        S3Client client = (S3Client) clientObj.getNativeData(NATIVE_CLIENT);
+        Object client = clientObj.getNativeData(NATIVE_ASYNC_CLIENT);
+        if (client == null) {
+            client = clientObj.getNativeData(NATIVE_CLIENT);
+        }
         if (client == null) {
             return ErrorCreator.createError("S3 Client is not initialized");
         }
         return client;
     }
 
+    // Large object transfers run on the CRT transfer client when it is configured, otherwise on the given client
+    private static Object getTransferClient(BObject clientObj, Object client) {
+        Object transferClient = clientObj.getNativeData(NATIVE_TRANSFER_CLIENT);
+        return transferClient != null ? transferClient : client;
+    }
+
+    // Runs the request on the client returned by getClient. Async requests yield the strand until the
+    // response future completes, so no thread is held while the request is in flight.
+    private static <T> T execute(Environment env, Object client, Function<S3Client, T> syncCall,
+            Function<S3AsyncClient, CompletableFuture<T>> asyncCall) {
+        if (client instanceof S3AsyncClient) {
+            return await(env, asyncCall.apply((S3AsyncClient) client));
+        }
+        return syncCall.apply((S3Client) client);
+    }
+
+    // Variant of execute for transfer worker threads, which block on the async response as they have no strand
+    private static <T> T executeBlocking(Object client, Function<S3Client, T> syncCall,
+            Function<S3AsyncClient, CompletableFuture<T>> asyncCall) {
+        if (client instanceof S3AsyncClient) {
+            return join(asyncCall.apply((S3AsyncClient) client));
+        }
+        return syncCall.apply((S3Client) client);
+    }
+
+    // Variant of execute that does not wait for the response. Sync requests are sent from the transfer pool
+    private static <T> CompletableFuture<T> executeAsync(Object client, Function<S3Client, T> syncCall,
+            Function<S3AsyncClient, CompletableFuture<T>> asyncCall) {
+        if (client instanceof S3AsyncClient) {
+            return asyncCall.apply((S3AsyncClient) client);
+        }
+        return ParallelExecutor.supply(() -> syncCall.apply((S3Client) client));
+    }
+
+    private static <T> T await(Environment env, CompletableFuture<T> future) {
+        return env.yieldAndRun(() -> join(future));
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            // Surface the SDK exception so that it is mapped to the matching Ballerina error type
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
     private static Object getConnectionConfig(BObject clientObj) {
         ConnectionConfig config = (ConnectionConfig) clientObj.getNativeData(NATIVE_CONFIG);
         if (config == null) {
@@ -296,13 +719,12 @@ public class NativeClientAdaptor {
 
     // Bucket Operations
 
-    public static Object createBucket(BObject clientObj, BString bucketName, BMap<BString, Object> config) {
+    public static Object createBucket(Environment env, BObject clientObj, BString bucketName,
+            BMap<BString, Object> config) {
         Object clientOrError = getClient(clientObj);
         if (clientOrError instanceof BError) {
             return clientOrError;
         }
-        @SuppressWarnings("resource")
-        S3Client s3 = (S3Client) clientOrError;
         String bucket = bucketName.getValue();
         try {
             CreateBucketRequest.Builder builder = CreateBucketRequest.builder().bucket(bucket);
@@ -311,7 +733,8 @@ public class NativeClientAdaptor {
             applyStringConfig(config, "objectOwnership", builder::objectOwnership);
             applyBooleanConfig(config, "objectLockEnabled", builder::objectLockEnabledForBucket);
 
-            s3.createBucket(builder.build());
+            CreateBucketRequest request = builder.build();
+            execute(env, clientOrError, s3 -> s3.createBucket(request), s3 -> s3.createBucket(request));
 
             return null;
         } catch (Exception e) {
@@ -319,83 +742,66 @@ public class NativeClientAdaptor {
         }
     }
 
-    public static Object deleteBucket(BObject clientObj, BString bucket) {
+    public static Object deleteBucket(Environment env, BObject clientObj, BString bucket) {
         Object clientOrError = getClient(clientObj);
         if (clientOrError instanceof BError) {
             return clientOrError;
         }
-        @SuppressWarnings("resource")
-        S3Client s3 = (S3Client) clientOrError;
         try {
-            s3.deleteBucket(DeleteBucketRequest.builder().bucket(bucket.getValue()).build());
+            DeleteBucketRequest request = DeleteBucketRequest.builder().bucket(bucket.getValue()).build();
+            execute(env, clientOrError, s3 -> s3.deleteBucket(request), s3 -> s3.deleteBucket(request));
             return null;
         } catch (Exception e) {
             return ErrorCreator.createError(e);
         }
     }
 
-    @SuppressWarnings("unchecked")
-    public static Object listBuckets(BObject clientObj) {
+    public static Object listBuckets(Environment env, BObject clientObj) {
         Object clientOrError = getClient(clientObj);
         if (clientOrError instanceof BError) {
             return clientOrError;
         }
-        @SuppressWarnings("resource")
-        S3Client s3 = (S3Client) clientOrError;
         try {
-            List<Bucket> buckets = s3.listBuckets().buckets();
-            MapType mapType = TypeCreator.createMapType(PredefinedTypes.TYPE_JSON);
-            BMap<BString, Object>[] bBuckets = new BMap[buckets.size()];
+            List<Bucket> buckets = execute(env, clientOrError, s3 -> s3.listBuckets(), s3 -> s3.listBuckets())
+                    .buckets();
+            Object[] bBuckets = new Object[buckets.size()];
 
             for (int i = 0; i < buckets.size(); i++) {
                 Bucket bucket = buckets.get(i);
-                BMap<BString, Object> bucketRecord = ValueCreator.createMapValue(mapType);
-
-                // Set bucket name
-                bucketRecord.put(StringUtils.fromString("name"), StringUtils.fromString(bucket.name()));
 
-                // Set creation date
-                Instant creationDate = bucket.creationDate();
-                String creationDateStr = creationDate != null ? creationDate.toString() : "";
-                bucketRecord.put(StringUtils.fromString("creationDate"), StringUtils.fromString(creationDateStr));
-
-                // Get bucket region
-                String region = "";
-                try {
-                    GetBucketLocationRequest locationRequest = GetBucketLocationRequest.builder()
-                            .bucket(bucket.name())
-                            .build();
-                    GetBucketLocationResponse locationResponse = s3.getBucketLocation(locationRequest);
-                    region = locationResponse.locationConstraintAsString();
-                    if (region == null || region.isEmpty()) {
-                        region = "us-east-1";
-                    }
-                } catch (Exception e) {
-                    region = "";
+                // Get bucket region. A failed lookup fails the listing, as no valid Region can be reported for it
+                GetBucketLocationRequest locationRequest = GetBucketLocationRequest.builder()
+                        .bucket(bucket.name())
+                        .build();
+                GetBucketLocationResponse locationResponse = execute(env, clientOrError,
+                        s3 -> s3.getBucketLocation(locationRequest), s3 -> s3.getBucketLocation(locationRequest));
+                String region = locationResponse.locationConstraintAsString();
+                if (region == null || region.isEmpty()) {
+                    region = "us-east-1";
+                } else if (BucketLocationConstraint.EU.toString().equals(region)) {
+                    // Legacy location constraint of buckets created in eu-west-1
+                    region = "eu-west-1";
                 }
-                bucketRecord.put(StringUtils.fromString("region"), StringUtils.fromString(region));
 
-                bBuckets[i] = bucketRecord;
+                bBuckets[i] = RecordCreator.createBucket(bucket, region);
             }
-            return ValueCreator.createArrayValue(bBuckets,
-                    TypeCreator.createArrayType(PredefinedTypes.TYPE_JSON));
+            return RecordCreator.createBucketArray(bBuckets);
         } catch (Exception e) {
             return ErrorCreator.createError(e);
         }
     }
 
-    public static Object getBucketLocation(BObject clientObj, BString bucket) {
+    public static Object getBucketLocation(Environment env, BObject clientObj, BString bucket) {
         Object clientOrError = getClient(clientObj);
         if (clientOrError instanceof BError) {
             return clientOrError;
         }
-        @SuppressWarnings("resource")
-        S3Client s3 = (S3Client) clientOrError;
         try {
             GetBucketLocationRequest request = GetBucketLocationRequest.builder()
                     .bucket(bucket.getValue())
                     .build();
-            GetBucketLocationResponse response = s3.getBucketLocation(request);
+            GetBucketLocationResponse response = execute(env, clientOrError,
+                    s3 -> s3.getBucketLocation(request), s3 -> s3.getBucketLocation(request));
             String location = response.locationConstraintAsString();
             return StringUtils.fromString(location != null ? location : "us-east-1");
         } catch (Exception e) {
@@ -405,14 +811,12 @@ public class NativeClientAdaptor {
 
     // Object Operations
 
-    public static Object putObjectFromFile(BObject clientObj, BString bucket, BString key, BString filePath,
-            BMap<BString, Object> config) {
+    public static Object putObjectFromFile(Environment env, BObject clientObj, BString bucket, BString key,
+            BString filePath, BMap<BString, Object> config) {
         Object clientOrError = getClient(clientObj);
         if (clientOrError instanceof BError) {
             return clientOrError;
         }
-        @SuppressWarnings("resource")
-        S3Client s3 = (S3Client) clientOrError;
         try {
             PutObjectRequest.Builder builder = PutObjectRequest.builder()
                     .bucket(bucket.getValue())
@@ -420,21 +824,25 @@ public class NativeClientAdaptor {
 
             applyPutObjectConfig(builder, config);
 
-            s3.putObject(builder.build(), RequestBody.fromFile(java.nio.file.Paths.get(filePath.getValue())));
+            PutObjectRequest request = builder.build();
+            Path path = Paths.get(filePath.getValue());
+            execute(env, getTransferClient(clientObj, clientOrError),
+                    s3 -> s3.putObject(request, RequestBody.fromFile(path)),
+                    s3 -> s3.putObject(request, AsyncRequestBody.fromFile(path)));
             return null;
         } catch (Exception e) {
             return ErrorCreator.createError(e);
+        } finally {
+            invalidateMetadata(getMetadataCache(clientObj), bucket.getValue(), key.getValue());
         }
     }
 
-    public static Object putObjectWithContent(BObject clientObj, BString bucket, BString key, BArray content,
-            BMap<BString, Object> config) {
+    public static Object putObjectWithContent(Environment env, BObject clientObj, BString bucket, BString key,
+            BArray content, BMap<BString, Object> config) {
         Object clientOrError = getClient(clientObj);
         if (clientOrError instanceof BError) {
             return clientOrError;
         }
-        @SuppressWarnings("resource")
-        S3Client s3 = (S3Client) clientOrError;
         try {
             PutObjectRequest.Builder builder = PutObjectRequest.builder()
                     .bucket(bucket.getValue())
@@ -442,11 +850,27 @@ public class NativeClientAdaptor {
 
             applyPutObjectConfig(builder, config);
 
-            s3.putObject(builder.build(), RequestBody.fromBytes(content.getBytes()));
+            PutObjectRequest request = builder.build();
+            byte[] bytes = content.getBytes();
+            execute(env, clientOrError, s3 -> s3.putObject(request, RequestBody.fromBytes(bytes)),
+                    s3 -> s3.putObject(request, AsyncRequestBody.fromBytes(bytes)));
             return null;
         } catch (Exception e) {
             return ErrorCreator.createError(e);
+        } finally {
+            invalidateMetadata(getMetadataCache(clientObj), bucket.getValue(), key.getValue());
+        }
+    }
+
+    // Reads the Ballerina stream on demand, or ahead on a separate strand when readAheadBuffers is set
+    private static InputStream createStreamInputStream(Environment env, BStream contentStream,
+            BMap<BString, Object> config) {
+        int readAheadBuffers = getLongConfig(config, "readAheadBuffers").orElse(0L).intValue();
+        if (readAheadBuffers < 0) {
+            throw new IllegalArgumentException("readAheadBuffers must not be negative, got: " + readAheadBuffers);
         }
+        int coalesceSize = getPositiveLongConfig(config, "coalesceSize").orElse(DEFAULT_COALESCE_SIZE).intValue();
+        return new BallerinaStreamInputStream(env, contentStream, readAheadBuffers, coalesceSize);
     }
 
     public static Object putObjectWithStream(Environment env, BObject clientObj, BString bucket, BString key,
@@ -455,10 +879,15 @@ public class NativeClientAdaptor {
         if (clientOrError instanceof BError) {
             return clientOrError;
         }
-        @SuppressWarnings("resource")
-        S3Client s3 = (S3Client) clientOrError;
         try {
-            long contentLength = config.getIntValue(StringUtils.fromString("contentLength"));
+            Optional<Long> knownLength = getLongConfig(config, "contentLength");
+            if (knownLength.isEmpty()) {
+                try (InputStream inputStream = createStreamInputStream(env, contentStream, config)) {
+                    streamingUpload(env, clientOrError, bucket.getValue(), key.getValue(), config, inputStream);
+                }
+                return null;
+            }
+            long contentLength = knownLength.get();
 
             // Validate contentLength is positive
             if (contentLength <= 0) {
@@ -473,14 +902,27 @@ public class NativeClientAdaptor {
 
             applyPutObjectConfig(builder, config);
 
-            try (InputStream inputStream = new BallerinaStreamInputStream(env, contentStream)) {
-                s3.putObject(builder.build(), RequestBody.fromInputStream(inputStream, contentLength));
+            PutObjectRequest request = builder.build();
+            Object client = getTransferClient(clientObj, clientOrError);
+            try (InputStream inputStream = createStreamInputStream(env, contentStream, config)) {
+                if (client instanceof S3AsyncClient) {
+                    // The stream is drained on this strand, as Ballerina stream values must be read by the caller
+                    BlockingInputStreamAsyncRequestBody body = AsyncRequestBody.forBlockingInputStream(contentLength);
+                    CompletableFuture<PutObjectResponse> future = ((S3AsyncClient) client).putObject(request, body);
+                    body.writeInputStream(inputStream);
+                    await(env, future);
+                } else {
+                    ((S3Client) client).putObject(request,
+                            RequestBody.fromInputStream(inputStream, contentLength));
+                }
             }
 
             return null;
 
         } catch (Exception e) {
             return ErrorCreator.createError(e);
+        } finally {
+            invalidateMetadata(getMetadataCache(clientObj), bucket.getValue(), key.getValue());
         }
     }
 
@@ -496,6 +938,23 @@ public class NativeClientAdaptor {
         applyStringConfig(config, "serverSideEncryption", builder::serverSideEncryption);
         applyMetadataConfig(config, "metadata", builder::metadata);
         applyInstantConfig(config, "expires", builder::expires);
+        applyStringConfig(config, "checksumAlgorithm", builder::checksumAlgorithm);
+    }
+
+    private static void applyGetObjectConfig(GetObjectRequest.Builder builder, BMap<BString, Object> config) {
+        applyStringConfig(config, "versionId", builder::versionId);
+        applyStringConfig(config, "range", builder::range);
+        applyStringConfig(config, "ifMatch", builder::ifMatch);
+        applyStringConfig(config, "ifNoneMatch", builder::ifNoneMatch);
+        applyInstantConfig(config, "ifModifiedSince", builder::ifModifiedSince);
+        applyInstantConfig(config, "ifUnmodifiedSince", builder::ifUnmodifiedSince);
+        applyIntConfig(config, "partNumber", builder::partNumber);
+        applyStringConfig(config, "responseContentDisposition", builder::responseContentDisposition);
+        applyStringConfig(config, "responseContentType", builder::responseContentType);
+        // The SDK validates a full-object checksum while the content is read, and fails the read on a mismatch
+        if (getBooleanConfig(config, "validateChecksum").orElse(false)) {
+            builder.checksumMode(ChecksumMode.ENABLED);
+        }
     }
 
     public static Object getObjectAsStream(Environment env, BObject clientObj, BString bucket, BString key,
@@ -504,56 +963,57 @@ public class NativeClientAdaptor {
         if (clientOrError instanceof BError) {
             return clientOrError;
         }
-        @SuppressWarnings("resource")
-        S3Client s3 = (S3Client) clientOrError;
         try {
+            int chunkSize = getPositiveLongConfig(config, "chunkSize")
+                    .orElse((long) ChunkReader.DEFAULT_CHUNK_SIZE).intValue();
+            int readAheadChunks = getLongConfig(config, "readAheadChunks").orElse(0L).intValue();
+            if (readAheadChunks < 0) {
+                return ErrorCreator.createError("readAheadChunks must not be negative, got: " + readAheadChunks);
+            }
+
             GetObjectRequest.Builder builder = GetObjectRequest.builder()
                     .bucket(bucket.getValue())
                     .key(key.getValue());
 
-            applyStringConfig(config, "versionId", builder::versionId);
-            applyStringConfig(config, "range", builder::range);
-            applyStringConfig(config, "ifMatch", builder::ifMatch);
-            applyStringConfig(config, "ifNoneMatch", builder::ifNoneMatch);
-            applyInstantConfig(config, "ifModifiedSince", builder::ifModifiedSince);
-            applyInstantConfig(config, "ifUnmodifiedSince", builder::ifUnmodifiedSince);
-            applyIntConfig(config, "partNumber", builder::partNumber);
-            applyStringConfig(config, "responseContentDisposition", builder::responseContentDisposition);
-            applyStringConfig(config, "responseContentType", builder::responseContentType);
+            applyGetObjectConfig(builder, config);
 
-            ResponseInputStream<GetObjectResponse> s3Stream = s3.getObject(builder.build());
+            GetObjectRequest request = builder.build();
+            Object client = getTransferClient(clientObj, clientOrError);
+            ContentCache cache = hasAnyConfig(config, GET_OBJECT_CONDITIONS) ? null : getContentCache(clientObj);
+            InputStream content = cache != null ? getObjectStreamThroughCache(env, client, cache, request)
+                    : execute(env, client, s3 -> s3.getObject(request),
+                            s3 -> s3.getObject(request, AsyncResponseTransformer.toBlockingInputStream()));
+            ChunkReader reader = new ChunkReader(content, chunkSize, readAheadChunks);
             BObject streamWrapper = ValueCreator.createObjectValue(env.getCurrentModule(), "StreamIterator");
-            streamWrapper.addNativeData("NATIVE_STREAM", s3Stream);
+            streamWrapper.addNativeData("NATIVE_STREAM", reader);
             return streamWrapper;
         } catch (Exception e) {
             return ErrorCreator.createError(e);
         }
     }
 
-    public static Object getObject(BObject clientObj, BString bucket, BString key,
+    public static Object getObject(Environment env, BObject clientObj, BString bucket, BString key,
             BMap<BString, Object> config) {
         Object clientOrError = getClient(clientObj);
         if (clientOrError instanceof BError) {
             return clientOrError;
         }
-        @SuppressWarnings("resource")
-        S3Client s3 = (S3Client) clientOrError;
         try {
             GetObjectRequest.Builder builder = GetObjectRequest.builder()
                     .bucket(bucket.getValue())
                     .key(key.getValue());
 
-            applyStringConfig(config, "versionId", builder::versionId);
-            applyStringConfig(config, "range", builder::range);
-            applyStringConfig(config, "ifMatch", builder::ifMatch);
-            applyStringConfig(config, "ifNoneMatch", builder::ifNoneMatch);
-            applyInstantConfig(config, "ifModifiedSince", builder::ifModifiedSince);
-            applyInstantConfig(config, "ifUnmodifiedSince", builder::ifUnmodifiedSince);
-            applyIntConfig(config, "partNumber", builder::partNumber);
-            applyStringConfig(config, "responseContentDisposition", builder::responseContentDisposition);
-            applyStringConfig(config, "responseContentType", builder::responseContentType);
+            applyGetObjectConfig(builder, config);
 
-            ResponseBytes<GetObjectResponse> responseBytes = s3.getObjectAsBytes(builder.build());
+            GetObjectRequest request = builder.build();
+            Object client = getTransferClient(clientObj, clientOrError);
+            ContentCache cache = hasAnyConfig(config, GET_OBJECT_CONDITIONS) ? null : getContentCache(clientObj);
+            if (cache != null) {
+                return ValueCreator.createArrayValue(getObjectThroughCache(env, client, cache, request));
+            }
+            ResponseBytes<GetObjectResponse> responseBytes = execute(env, client,
+                    s3 -> s3.getObjectAsBytes(request),
+                    s3 -> s3.getObject(request, AsyncResponseTransformer.toBytes()));
             byte[] bytes = responseBytes.asByteArray();
 
             return ValueCreator.createArrayValue(bytes);
@@ -562,222 +1022,1018 @@ public class NativeClientAdaptor {
         }
     }
 
-    public static Object deleteObject(BObject clientObj, BString bucket, BString key, BMap<BString, Object> config) {
-        Object clientOrError = getClient(clientObj);
-        if (clientOrError instanceof BError) {
-            return clientOrError;
-        }
-        @SuppressWarnings("resource")
-        S3Client s3 = (S3Client) clientOrError;
-        try {
-            DeleteObjectRequest.Builder builder = DeleteObjectRequest.builder()
-                    .bucket(bucket.getValue())
-                    .key(key.getValue());
-
-            applyStringConfig(config, "versionId", builder::versionId);
-            applyStringConfig(config, "mfa", builder::mfa);
-            applyBooleanConfig(config, "bypassGovernanceRetention", builder::bypassGovernanceRetention);
+    private static ContentCache getContentCache(BObject clientObj) {
+        Object cache = clientObj.getNativeData(NATIVE_CONTENT_CACHE);
+        return cache instanceof ContentCache ? (ContentCache) cache : null;
+    }
 
-            s3.deleteObject(builder.build());
-            return null;
-        } catch (NoSuchKeyException e) {
-            return null;
-        } catch (Exception e) {
-            return ErrorCreator.createError(e);
+    // Revalidates the cached copy with If-None-Match and reads it from disk when S3 answers 304. Otherwise the
+    // downloaded content replaces the cached copy.
+    private static byte[] getObjectThroughCache(Environment env, Object client, ContentCache cache,
+            GetObjectRequest request) throws IOException {
+        try (ContentCache.Lease cached = cache.lookup(request.bucket(), request.key())) {
+            GetObjectRequest conditional = cached == null ? request
+                    : request.toBuilder().ifNoneMatch(cached.eTag()).build();
+            ResponseBytes<GetObjectResponse> responseBytes;
+            try {
+                responseBytes = execute(env, client, s3 -> s3.getObjectAsBytes(conditional),
+                        s3 -> s3.getObject(conditional, AsyncResponseTransformer.toBytes()));
+            } catch (S3Exception e) {
+                if (cached != null && e.statusCode() == HTTP_NOT_MODIFIED) {
+                    return cached.readAll();
+                }
+                if (e instanceof NoSuchKeyException) {
+                    cache.remove(request.bucket(), request.key());
+                }
+                throw e;
+            }
+            byte[] bytes = responseBytes.asByteArray();
+            cache.store(request.bucket(), request.key(), responseBytes.response().eTag(), bytes);
+            return bytes;
         }
     }
 
-    @SuppressWarnings("unchecked")
-    public static Object listObjectsV2(BObject clientObj, BString bucket, BMap<BString, Object> config) {
-        Object clientOrError = getClient(clientObj);
-        if (clientOrError instanceof BError) {
-            return clientOrError;
-        }
-        @SuppressWarnings("resource")
-        S3Client s3 = (S3Client) clientOrError;
+    // Streaming variant of getObjectThroughCache. A cached copy is streamed from its file, and downloaded content is
+    // written to the cache as the consumer reads it.
+    private static InputStream getObjectStreamThroughCache(Environment env, Object client, ContentCache cache,
+            GetObjectRequest request) throws IOException {
+        ContentCache.Lease cached = cache.lookup(request.bucket(), request.key());
+        // The lease is closed on every path except the 304 hand-off, where the returned stream takes it over
+        boolean handedOff = false;
         try {
-            ListObjectsV2Request.Builder builder = ListObjectsV2Request.builder()
-                    .bucket(bucket.getValue());
-
-            applyStringConfig(config, "prefix", builder::prefix);
-            applyStringConfig(config, "delimiter", builder::delimiter);
-            applyIntConfig(config, "maxKeys", builder::maxKeys);
-            applyStringConfig(config, "continuationToken", builder::continuationToken);
-            applyStringConfig(config, "startAfter", builder::startAfter);
-            applyBooleanConfig(config, "fetchOwner", builder::fetchOwner);
-            applyStringConfig(config, "encodingType", builder::encodingType);
-
-            ListObjectsV2Response response = s3.listObjectsV2(builder.build());
-            MapType mapType = TypeCreator.createMapType(PredefinedTypes.TYPE_JSON);
-            BMap<BString, Object> result = ValueCreator.createMapValue(mapType);
-            List<S3Object> objects = response.contents();
-            int size = objects.size();
-
-            // Create array of S3Object maps
-            BMap<BString, Object>[] objArray = new BMap[size];
-            for (int i = 0; i < size; i++) {
-                S3Object obj = objects.get(i);
-                BMap<BString, Object> objMap = ValueCreator.createMapValue(mapType);
-
-                objMap.put(StringUtils.fromString("key"), StringUtils.fromString(obj.key()));
-                objMap.put(StringUtils.fromString("size"), (long) obj.size());
-                objMap.put(StringUtils.fromString("lastModified"),
-                        StringUtils.fromString(obj.lastModified().toString()));
-                objMap.put(StringUtils.fromString("eTag"), StringUtils.fromString(obj.eTag()));
-                objMap.put(StringUtils.fromString("storageClass"), StringUtils.fromString(obj.storageClassAsString()));
-
-                objArray[i] = objMap;
+            GetObjectRequest conditional = cached == null ? request
+                    : request.toBuilder().ifNoneMatch(cached.eTag()).build();
+            ResponseInputStream<GetObjectResponse> s3Stream;
+            try {
+                s3Stream = execute(env, client, s3 -> s3.getObject(conditional),
+                        s3 -> s3.getObject(conditional, AsyncResponseTransformer.toBlockingInputStream()));
+            } catch (S3Exception e) {
+                if (cached != null && e.statusCode() == HTTP_NOT_MODIFIED) {
+                    handedOff = true;
+                    return cached.openStream();
+                }
+                if (e instanceof NoSuchKeyException) {
+                    cache.remove(request.bucket(), request.key());
+                }
+                throw e;
             }
-
-            // Convert array to BArray using ValueCreator
-            BArray objectsArray = ValueCreator.createArrayValue(objArray,
-                    TypeCreator.createArrayType(PredefinedTypes.TYPE_JSON));
-
-            result.put(StringUtils.fromString("objects"), objectsArray);
-            result.put(StringUtils.fromString("count"), (long) size);
-            result.put(StringUtils.fromString("isTruncated"), response.isTruncated());
-
-            if (response.nextContinuationToken() != null) {
-                result.put(StringUtils.fromString("nextContinuationToken"),
-                        StringUtils.fromString(response.nextContinuationToken()));
+            GetObjectResponse response = s3Stream.response();
+            return cache.storeWhileReading(request.bucket(), request.key(), response.eTag(),
+                    response.contentLength() != null ? response.contentLength() : -1, s3Stream);
+        } finally {
+            if (cached != null && !handedOff) {
+                cached.close();
             }
-
-            return result;
-        } catch (Exception e) {
-            return ErrorCreator.createError(e);
         }
     }
 
-    public static Object headObject(BObject clientObj, BString bucket, BString key, BMap<BString, Object> config) {
+    public static Object getObjectToFile(Environment env, BObject clientObj, BString bucket, BString key,
+            BString filePath, BMap<BString, Object> config) {
         Object clientOrError = getClient(clientObj);
         if (clientOrError instanceof BError) {
             return clientOrError;
         }
-        @SuppressWarnings("resource")
-        S3Client s3 = (S3Client) clientOrError;
+        Path target = Paths.get(filePath.getValue()).toAbsolutePath();
+        boolean atomic = getBooleanConfig(config, "atomic").orElse(false);
+        Path tempFile = null;
         try {
-            HeadObjectRequest.Builder builder = HeadObjectRequest.builder()
+            GetObjectRequest.Builder builder = GetObjectRequest.builder()
                     .bucket(bucket.getValue())
                     .key(key.getValue());
 
-            applyStringConfig(config, "versionId", builder::versionId);
-            applyIntConfig(config, "partNumber", builder::partNumber);
-            applyStringConfig(config, "ifMatch", builder::ifMatch);
-            applyStringConfig(config, "ifNoneMatch", builder::ifNoneMatch);
-            applyInstantConfig(config, "ifModifiedSince", builder::ifModifiedSince);
-            applyInstantConfig(config, "ifUnmodifiedSince", builder::ifUnmodifiedSince);
+            applyGetObjectConfig(builder, config);
 
-            HeadObjectResponse response = s3.headObject(builder.build());
-            MapType mapType = TypeCreator.createMapType(PredefinedTypes.TYPE_JSON);
-            BMap<BString, Object> metadata = ValueCreator.createMapValue(mapType);
+            GetObjectRequest request = builder.build();
 
-            metadata.put(StringUtils.fromString("key"), key);
-            metadata.put(StringUtils.fromString("contentLength"), response.contentLength());
-            if (response.contentType() != null) {
-                metadata.put(StringUtils.fromString("contentType"), StringUtils.fromString(response.contentType()));
+            // In atomic mode the body goes to a temporary file next to the target, which then replaces the target
+            // with a rename, so readers never see a partially written file. The file is created before the request
+            // so that the response stream goes straight into the try-with-resources below and cannot leak
+            if (atomic) {
+                tempFile = Files.createTempFile(target.getParent(), "." + target.getFileName(), ".part");
             }
-            if (response.eTag() != null) {
-                metadata.put(StringUtils.fromString("eTag"), StringUtils.fromString(response.eTag()));
+            Path writePath = atomic ? tempFile : target;
+            ResponseInputStream<GetObjectResponse> s3Stream = execute(env, getTransferClient(clientObj, clientOrError),
+                    s3 -> s3.getObject(request),
+                    s3 -> s3.getObject(request, AsyncResponseTransformer.toBlockingInputStream()));
+            long bytesWritten;
+            try (InputStream input = s3Stream;
+                 FileChannel channel = FileChannel.open(writePath, StandardOpenOption.CREATE,
+                         StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                bytesWritten = env.yieldAndRun(() -> writeToChannel(input, channel));
+                if (atomic) {
+                    channel.force(false);
+                }
             }
-            if (response.lastModified() != null) {
-                metadata.put(StringUtils.fromString("lastModified"),
-                        StringUtils.fromString(response.lastModified().toString()));
+            if (atomic) {
+                Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
             }
-            String storageClass = response.storageClassAsString();
-            metadata.put(StringUtils.fromString("storageClass"),
-                    StringUtils.fromString(storageClass != null ? storageClass : "STANDARD"));
-            if (response.versionId() != null) {
-                metadata.put(StringUtils.fromString("versionId"), StringUtils.fromString(response.versionId()));
+            return bytesWritten;
+        } catch (Exception e) {
+            if (tempFile != null) {
+                try {
+                    Files.deleteIfExists(tempFile);
+                } catch (IOException deleteError) {
+                    e.addSuppressed(deleteError);
+                }
             }
+            return ErrorCreator.createError(e);
+        }
+    }
 
-            if (response.metadata() != null && !response.metadata().isEmpty()) {
-                BMap<BString, Object> userMeta = ValueCreator.createMapValue(mapType);
-                response.metadata()
-                        .forEach((k, v) -> userMeta.put(StringUtils.fromString(k), StringUtils.fromString(v)));
-                metadata.put(StringUtils.fromString("userMetadata"), userMeta);
+    // Copies the stream to the channel with a single reused buffer, returning the number of bytes written
+    private static long writeToChannel(InputStream input, FileChannel channel) {
+        try {
+            byte[] buffer = new byte[FILE_WRITE_BUFFER_SIZE];
+            ByteBuffer byteBuffer = ByteBuffer.wrap(buffer);
+            long total = 0;
+            int bytesRead;
+            while ((bytesRead = input.read(buffer)) != -1) {
+                byteBuffer.clear().limit(bytesRead);
+                while (byteBuffer.hasRemaining()) {
+                    channel.write(byteBuffer);
+                }
+                total += bytesRead;
             }
-
-            return metadata;
-        } catch (Exception e) {
-            return ErrorCreator.createError(e);
+            return total;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
     }
 
-    public static Object copyObject(BObject clientObj, BString sourceBucket, BString sourceKey, BString destBucket,
-            BString destKey, BMap<BString, Object> config) {
+    public static Object deleteObject(Environment env, BObject clientObj, BString bucket, BString key,
+            BMap<BString, Object> config) {
         Object clientOrError = getClient(clientObj);
         if (clientOrError instanceof BError) {
             return clientOrError;
         }
-        @SuppressWarnings("resource")
-        S3Client s3 = (S3Client) clientOrError;
         try {
-            CopyObjectRequest.Builder builder = CopyObjectRequest.builder()
-                    .sourceBucket(sourceBucket.getValue())
-                    .sourceKey(sourceKey.getValue())
-                    .destinationBucket(destBucket.getValue())
-                    .destinationKey(destKey.getValue());
+            DeleteObjectRequest.Builder builder = DeleteObjectRequest.builder()
+                    .bucket(bucket.getValue())
+                    .key(key.getValue());
 
-            applyStringConfig(config, "acl", builder::acl);
-            applyStringConfig(config, "storageClass", builder::storageClass);
-            applyStringConfig(config, "metadataDirective", builder::metadataDirective);
-            applyStringConfig(config, "contentType", builder::contentType);
-            applyMetadataConfig(config, "metadata", builder::metadata);
-            applyStringConfig(config, "cacheControl", builder::cacheControl);
-            applyStringConfig(config, "contentDisposition", builder::contentDisposition);
-            applyStringConfig(config, "contentEncoding", builder::contentEncoding);
-            applyStringConfig(config, "tagging", builder::tagging);
-            applyStringConfig(config, "copySourceIfMatch", builder::copySourceIfMatch);
-            applyStringConfig(config, "copySourceIfNoneMatch", builder::copySourceIfNoneMatch);
-            applyInstantConfig(config, "copySourceIfModifiedSince", builder::copySourceIfModifiedSince);
-            applyInstantConfig(config, "copySourceIfUnmodifiedSince", builder::copySourceIfUnmodifiedSince);
+            applyStringConfig(config, "versionId", builder::versionId);
+            applyStringConfig(config, "mfa", builder::mfa);
+            applyBooleanConfig(config, "bypassGovernanceRetention", builder::bypassGovernanceRetention);
 
-            s3.copyObject(builder.build());
+            DeleteObjectRequest request = builder.build();
+            execute(env, clientOrError, s3 -> s3.deleteObject(request), s3 -> s3.deleteObject(request));
+            return null;
+        } catch (NoSuchKeyException e) {
             return null;
         } catch (Exception e) {
             return ErrorCreator.createError(e);
+        } finally {
+            invalidateMetadata(getMetadataCache(clientObj), bucket.getValue(), key.getValue());
         }
     }
 
-    public static Object doesObjectExist(BObject clientObj, BString bucket, BString key) {
+    public static Object deleteObjects(Environment env, BObject clientObj, BString bucket, BArray objects,
+            BMap<BString, Object> config) {
         Object clientOrError = getClient(clientObj);
         if (clientOrError instanceof BError) {
             return clientOrError;
         }
-        @SuppressWarnings("resource")
-        S3Client s3 = (S3Client) clientOrError;
         try {
-            HeadObjectRequest request = HeadObjectRequest.builder()
-                    .bucket(bucket.getValue())
-                    .key(key.getValue())
-                    .build();
-            s3.headObject(request);
-            return true;
-        } catch (NoSuchKeyException e) {
-            return false;
+            List<ObjectIdentifier> identifiers = new ArrayList<>(objects.size());
+            for (int i = 0; i < objects.size(); i++) {
+                identifiers.add(toObjectIdentifier(objects.get(i)));
+            }
+            Iterator<List<ObjectIdentifier>> batches = IntStream.range(0,
+                            (identifiers.size() + MAX_DELETE_BATCH_SIZE - 1) / MAX_DELETE_BATCH_SIZE)
+                    .mapToObj(index -> identifiers.subList(index * MAX_DELETE_BATCH_SIZE,
+                            Math.min((index + 1) * MAX_DELETE_BATCH_SIZE, identifiers.size())))
+                    .iterator();
+            return batchDelete(env, clientOrError, getMetadataCache(clientObj), bucket.getValue(), config,
+                    () -> batches.hasNext() ? batches.next() : null);
         } catch (Exception e) {
             return ErrorCreator.createError(e);
         }
     }
 
-    // Multipart Upload Operations
-
-    public static Object createMultipartUpload(BObject clientObj, BString bucket, BString key,
+    public static Object deleteByPrefix(Environment env, BObject clientObj, BString bucket, BString prefix,
             BMap<BString, Object> config) {
         Object clientOrError = getClient(clientObj);
         if (clientOrError instanceof BError) {
             return clientOrError;
         }
-        @SuppressWarnings("resource")
-        S3Client s3 = (S3Client) clientOrError;
+        if (prefix.getValue().isEmpty()) {
+            return ErrorCreator.createError("prefix must not be empty");
+        }
         try {
-            CreateMultipartUploadRequest.Builder builder = CreateMultipartUploadRequest.builder()
+            // Each listed page is one delete batch, and the next page is listed while the batch is deleted
+            ListObjectsV2Request request = ListObjectsV2Request.builder()
                     .bucket(bucket.getValue())
-                    .key(key.getValue());
-
+                    .prefix(prefix.getValue())
+                    .maxKeys(MAX_DELETE_BATCH_SIZE)
+                    .build();
+            ObjectLister lister = new ObjectLister(request, -1, pageRequest -> executeAsync(clientOrError,
+                    s3 -> s3.listObjectsV2(pageRequest), s3 -> s3.listObjectsV2(pageRequest)));
+            try {
+                MetadataCache cache = getMetadataCache(clientObj);
+                return batchDelete(env, clientOrError, cache, bucket.getValue(), config, () -> {
+                    List<S3Object> page = lister.nextPage();
+                    return page == null ? null : page.stream()
+                            .map(object -> ObjectIdentifier.builder().key(object.key()).build())
+                            .toList();
+                });
+            } finally {
+                lister.close();
+            }
+        } catch (Exception e) {
+            return ErrorCreator.createError(e);
+        }
+    }
+
+    private static ObjectIdentifier toObjectIdentifier(Object object) {
+        if (object instanceof BString) {
+            return ObjectIdentifier.builder().key(((BString) object).getValue()).build();
+        }
+        @SuppressWarnings("unchecked")
+        BMap<BString, Object> identifier = (BMap<BString, Object>) object;
+        ObjectIdentifier.Builder builder = ObjectIdentifier.builder();
+        applyStringConfig(identifier, "key", builder::key);
+        applyStringConfig(identifier, "versionId", builder::versionId);
+        return builder.build();
+    }
+
+    // Sends a DeleteObjects request for each batch, with at most maxConcurrency requests in flight. Batches are
+    // pulled from the source as requests complete, and the progress listener is called on the strand after each
+    // completed request. A failed request stops further batches and fails the operation once the requests in
+    // flight end, while keys that S3 could not delete are returned in the result.
+    private static BMap<BString, Object> batchDelete(Environment env, Object client, MetadataCache cache,
+            String bucket, BMap<BString, Object> config, Supplier<List<ObjectIdentifier>> batchSource) {
+        int maxConcurrency = getMaxConcurrency(config);
+        Object listener = config.get(StringUtils.fromString("progressListener"));
+        boolean bypassGovernanceRetention = getBooleanConfig(config, "bypassGovernanceRetention").orElse(false);
+
+        BlockingQueue<Object> completed = new LinkedBlockingQueue<>();
+        List<S3Error> errors = new ArrayList<>();
+        long deletedCount = 0;
+        int inFlight = 0;
+        boolean exhausted = false;
+        RuntimeException failure = null;
+        while (true) {
+            while (failure == null && !exhausted && inFlight < maxConcurrency) {
+                List<ObjectIdentifier> batch;
+                try {
+                    batch = env.yieldAndRun(batchSource);
+                } catch (RuntimeException e) {
+                    failure = e;
+                    break;
+                }
+                if (batch == null) {
+                    exhausted = true;
+                } else if (!batch.isEmpty()) {
+                    DeleteObjectsRequest request = DeleteObjectsRequest.builder()
+                            .bucket(bucket)
+                            .delete(Delete.builder().objects(batch).quiet(true).build())
+                            .bypassGovernanceRetention(bypassGovernanceRetention ? true : null)
+                            .build();
+                    List<ObjectIdentifier> batchObjects = batch;
+                    executeAsync(client, s3 -> s3.deleteObjects(request), s3 -> s3.deleteObjects(request))
+                            .whenComplete((response, error) -> {
+                                batchObjects.forEach(object -> invalidateMetadata(cache, bucket, object.key()));
+                                completed.add(error != null ? error : Map.entry(batchObjects.size(), response));
+                            });
+                    inFlight++;
+                }
+            }
+            if (inFlight == 0) {
+                break;
+            }
+
+            Object result = env.yieldAndRun(() -> {
+                try {
+                    return completed.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return new CancellationException("Delete was interrupted");
+                }
+            });
+            inFlight--;
+            if (result instanceof Throwable) {
+                if (failure == null) {
+                    Throwable error = result instanceof CompletionException && ((Throwable) result).getCause() != null
+                            ? ((Throwable) result).getCause() : (Throwable) result;
+                    failure = error instanceof RuntimeException
+                            ? (RuntimeException) error : new IllegalStateException(error);
+                }
+                continue;
+            }
+
+            @SuppressWarnings("unchecked")
+            Map.Entry<Integer, DeleteObjectsResponse> batchResult = (Map.Entry<Integer, DeleteObjectsResponse>) result;
+            // In quiet mode the response only lists the keys that could not be deleted
+            List<S3Error> batchErrors = batchResult.getValue().errors();
+            deletedCount += batchResult.getKey() - batchErrors.size();
+            errors.addAll(batchErrors);
+            if (listener instanceof BFunctionPointer) {
+                ((BFunctionPointer) listener).call(env.getRuntime(),
+                        RecordCreator.createDeleteProgress(deletedCount, errors.size()));
+            }
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+        return RecordCreator.createDeleteObjectsResult(deletedCount, errors);
+    }
+
+    public static Object listObjectsV2(Environment env, BObject clientObj, BString bucket,
+            BMap<BString, Object> config) {
+        Object clientOrError = getClient(clientObj);
+        if (clientOrError instanceof BError) {
+            return clientOrError;
+        }
+        try {
+            ListObjectsV2Request request = createListObjectsRequest(bucket, config);
+            ListObjectsV2Response response = execute(env, clientOrError,
+                    s3 -> s3.listObjectsV2(request), s3 -> s3.listObjectsV2(request));
+            return RecordCreator.createListObjectsResponse(response);
+        } catch (Exception e) {
+            return ErrorCreator.createError(e);
+        }
+    }
+
+    public static Object listObjectsAsStream(Environment env, BObject clientObj, BString bucket,
+            BMap<BString, Object> config) {
+        Object clientOrError = getClient(clientObj);
+        if (clientOrError instanceof BError) {
+            return clientOrError;
+        }
+        try {
+            ListObjectsV2Request request = createListObjectsRequest(bucket, config);
+            long maxObjects = getPositiveLongConfig(config, "maxObjects").orElse(-1L);
+            ObjectLister lister = new ObjectLister(request, maxObjects, pageRequest -> executeAsync(clientOrError,
+                    s3 -> s3.listObjectsV2(pageRequest), s3 -> s3.listObjectsV2(pageRequest)));
+            BObject iterator = ValueCreator.createObjectValue(env.getCurrentModule(), "ObjectIterator");
+            StreamIteratorUtils.setObjectSource(iterator, lister);
+            return iterator;
+        } catch (Exception e) {
+            return ErrorCreator.createError(e);
+        }
+    }
+
+    public static Object listObjectsInParallel(Environment env, BObject clientObj, BString bucket,
+            BMap<BString, Object> config) {
+        Object clientOrError = getClient(clientObj);
+        if (clientOrError instanceof BError) {
+            return clientOrError;
+        }
+        try {
+            ListObjectsV2Request.Builder builder = ListObjectsV2Request.builder()
+                    .bucket(bucket.getValue());
+            applyStringConfig(config, "prefix", builder::prefix);
+            applyIntConfig(config, "maxKeys", builder::maxKeys);
+            applyBooleanConfig(config, "fetchOwner", builder::fetchOwner);
+            ListObjectsV2Request request = builder.build();
+
+            int maxConcurrency = getMaxConcurrency(config);
+            boolean ordered = getBooleanConfig(config, "ordered").orElse(true);
+            long maxObjects = getPositiveLongConfig(config, "maxObjects").orElse(-1L);
+            Function<ListObjectsV2Request, ListObjectsV2Response> pageFetcher = pageRequest ->
+                    executeBlocking(clientOrError, s3 -> s3.listObjectsV2(pageRequest),
+                            s3 -> s3.listObjectsV2(pageRequest));
+
+            List<ParallelLister.Partition> partitions;
+            Object boundaries = config.get(StringUtils.fromString("partitionBoundaries"));
+            if (boundaries instanceof BArray) {
+                partitions = ParallelLister.rangePartitions(request,
+                        Arrays.asList(((BArray) boundaries).getStringArray()));
+            } else {
+                String delimiter = getStringConfig(config, "delimiter").orElse("/");
+                int depth = getPositiveLongConfig(config, "partitionDepth").orElse(1L).intValue();
+                partitions = env.yieldAndRun(() -> ParallelLister.discoverPartitions(request, delimiter, depth,
+                        maxConcurrency, pageFetcher));
+            }
+
+            ParallelLister lister = new ParallelLister(partitions, maxConcurrency, ordered, maxObjects, pageFetcher);
+            BObject iterator = ValueCreator.createObjectValue(env.getCurrentModule(), "ObjectIterator");
+            StreamIteratorUtils.setObjectSource(iterator, lister);
+            return iterator;
+        } catch (Exception e) {
+            return ErrorCreator.createError(e);
+        }
+    }
+
+    private static ListObjectsV2Request createListObjectsRequest(BString bucket, BMap<BString, Object> config) {
+        ListObjectsV2Request.Builder builder = ListObjectsV2Request.builder()
+                .bucket(bucket.getValue());
+
+        applyStringConfig(config, "prefix", builder::prefix);
+        applyStringConfig(config, "delimiter", builder::delimiter);
+        applyIntConfig(config, "maxKeys", builder::maxKeys);
+        applyStringConfig(config, "continuationToken", builder::continuationToken);
+        applyStringConfig(config, "startAfter", builder::startAfter);
+        applyBooleanConfig(config, "fetchOwner", builder::fetchOwner);
+        applyStringConfig(config, "encodingType", builder::encodingType);
+        return builder.build();
+    }
+
+    public static Object headObject(Environment env, BObject clientObj, BString bucket, BString key,
+            BMap<BString, Object> config) {
+        Object clientOrError = getClient(clientObj);
+        if (clientOrError instanceof BError) {
+            return clientOrError;
+        }
+        try {
+            HeadObjectRequest.Builder builder = HeadObjectRequest.builder()
+                    .bucket(bucket.getValue())
+                    .key(key.getValue());
+
+            applyStringConfig(config, "versionId", builder::versionId);
+            applyIntConfig(config, "partNumber", builder::partNumber);
+            applyStringConfig(config, "ifMatch", builder::ifMatch);
+            applyStringConfig(config, "ifNoneMatch", builder::ifNoneMatch);
+            applyInstantConfig(config, "ifModifiedSince", builder::ifModifiedSince);
+            applyInstantConfig(config, "ifUnmodifiedSince", builder::ifUnmodifiedSince);
+
+            HeadObjectRequest request = builder.build();
+            // Only the current version of an object is cached, so conditional and version requests are always sent
+            MetadataCache cache = hasAnyConfig(config, HEAD_OBJECT_CONDITIONS) ? null : getMetadataCache(clientObj);
+            HeadObjectResponse response = headThroughCache(cache, bucket.getValue(), key.getValue(),
+                    () -> execute(env, clientOrError, s3 -> s3.headObject(request), s3 -> s3.headObject(request)));
+            return RecordCreator.createObjectMetadata(key, response);
+        } catch (Exception e) {
+            return ErrorCreator.createError(e);
+        }
+    }
+
+    public static Object copyObject(Environment env, BObject clientObj, BString sourceBucket, BString sourceKey,
+            BString destBucket, BString destKey, BMap<BString, Object> config) {
+        Object clientOrError = getClient(clientObj);
+        if (clientOrError instanceof BError) {
+            return clientOrError;
+        }
+        try {
+            CopyObjectRequest.Builder builder = CopyObjectRequest.builder()
+                    .sourceBucket(sourceBucket.getValue())
+                    .sourceKey(sourceKey.getValue())
+                    .destinationBucket(destBucket.getValue())
+                    .destinationKey(destKey.getValue());
+
+            applyStringConfig(config, "acl", builder::acl);
+            applyStringConfig(config, "storageClass", builder::storageClass);
+            applyStringConfig(config, "metadataDirective", builder::metadataDirective);
+            applyStringConfig(config, "contentType", builder::contentType);
+            applyMetadataConfig(config, "metadata", builder::metadata);
+            applyStringConfig(config, "cacheControl", builder::cacheControl);
+            applyStringConfig(config, "contentDisposition", builder::contentDisposition);
+            applyStringConfig(config, "contentEncoding", builder::contentEncoding);
+            applyStringConfig(config, "tagging", builder::tagging);
+            applyStringConfig(config, "copySourceIfMatch", builder::copySourceIfMatch);
+            applyStringConfig(config, "copySourceIfNoneMatch", builder::copySourceIfNoneMatch);
+            applyInstantConfig(config, "copySourceIfModifiedSince", builder::copySourceIfModifiedSince);
+            applyInstantConfig(config, "copySourceIfUnmodifiedSince", builder::copySourceIfUnmodifiedSince);
+
+            CopyObjectRequest request = builder.build();
+            execute(env, clientOrError, s3 -> s3.copyObject(request), s3 -> s3.copyObject(request));
+            return null;
+        } catch (Exception e) {
+            return ErrorCreator.createError(e);
+        } finally {
+            invalidateMetadata(getMetadataCache(clientObj), destBucket.getValue(), destKey.getValue());
+        }
+    }
+
+    // Copies the object with UploadPartCopy requests for byte ranges that run in parallel, so the content is copied
+    // within S3 and objects above the 5 GB limit of CopyObject can be copied. Objects that fit in one part are copied
+    // with a single CopyObject. As with CopyObject, the metadata and tags of the source are kept unless the
+    // metadataDirective is "REPLACE" or tagging is given.
+    public static Object copyLargeObject(Environment env, BObject clientObj, BString sourceBucket, BString sourceKey,
+            BString destBucket, BString destKey, BMap<BString, Object> config) {
+        Object clientOrError = getClient(clientObj);
+        if (clientOrError instanceof BError) {
+            return clientOrError;
+        }
+        try {
+            HeadObjectRequest.Builder headBuilder = HeadObjectRequest.builder()
+                    .bucket(sourceBucket.getValue())
+                    .key(sourceKey.getValue());
+            applyStringConfig(config, "copySourceIfMatch", headBuilder::ifMatch);
+            applyStringConfig(config, "copySourceIfNoneMatch", headBuilder::ifNoneMatch);
+            applyInstantConfig(config, "copySourceIfModifiedSince", headBuilder::ifModifiedSince);
+            applyInstantConfig(config, "copySourceIfUnmodifiedSince", headBuilder::ifUnmodifiedSince);
+            HeadObjectRequest headRequest = headBuilder.build();
+            HeadObjectResponse head = execute(env, clientOrError, s3 -> s3.headObject(headRequest),
+                    s3 -> s3.headObject(headRequest));
+
+            long objectSize = head.contentLength();
+            long partSize = getCopyPartSize(config, objectSize);
+            if (objectSize <= partSize) {
+                return copyObject(env, clientObj, sourceBucket, sourceKey, destBucket, destKey, config);
+            }
+
+            env.yieldAndRun(() -> {
+                multipartCopy(clientOrError, sourceBucket.getValue(), sourceKey.getValue(), destBucket.getValue(),
+                        destKey.getValue(), head, config, partSize, getMaxConcurrency(config));
+                return null;
+            });
+            return null;
+        } catch (Exception e) {
+            return ErrorCreator.createError(e);
+        } finally {
+            invalidateMetadata(getMetadataCache(clientObj), destBucket.getValue(), destKey.getValue());
+        }
+    }
+
+    // Runs on a transfer worker thread. Every range is pinned to the ETag of the given HEAD response, so a source that
+    // is replaced during the copy fails instead of mixing content from two versions.
+    private static void multipartCopy(Object client, String sourceBucket, String sourceKey, String destBucket,
+            String destKey, HeadObjectResponse head, BMap<BString, Object> config, long partSize, int maxConcurrency) {
+        CreateMultipartUploadRequest.Builder createBuilder = CreateMultipartUploadRequest.builder()
+                .bucket(destBucket)
+                .key(destKey);
+        applyStringConfig(config, "acl", createBuilder::acl);
+        applyStringConfig(config, "storageClass", createBuilder::storageClass);
+        if ("REPLACE".equals(getStringConfig(config, "metadataDirective").orElse("COPY"))) {
+            applyStringConfig(config, "contentType", createBuilder::contentType);
+            applyMetadataConfig(config, "metadata", createBuilder::metadata);
+            applyStringConfig(config, "cacheControl", createBuilder::cacheControl);
+            applyStringConfig(config, "contentDisposition", createBuilder::contentDisposition);
+            applyStringConfig(config, "contentEncoding", createBuilder::contentEncoding);
+        } else {
+            // A multipart upload does not take over the metadata of the source by itself
+            createBuilder.contentType(head.contentType())
+                    .metadata(head.metadata())
+                    .cacheControl(head.cacheControl())
+                    .contentDisposition(head.contentDisposition())
+                    .contentEncoding(head.contentEncoding())
+                    .contentLanguage(head.contentLanguage());
+        }
+        Optional<String> tagging = getStringConfig(config, "tagging");
+        if (tagging.isPresent()) {
+            createBuilder.tagging(tagging.get());
+        } else {
+            GetObjectTaggingRequest taggingRequest = GetObjectTaggingRequest.builder()
+                    .bucket(sourceBucket)
+                    .key(sourceKey)
+                    .versionId(head.versionId())
+                    .build();
+            List<Tag> tags = executeBlocking(client, s3 -> s3.getObjectTagging(taggingRequest),
+                    s3 -> s3.getObjectTagging(taggingRequest)).tagSet();
+            if (!tags.isEmpty()) {
+                createBuilder.tagging(Tagging.builder().tagSet(tags).build());
+            }
+        }
+        CreateMultipartUploadRequest createRequest = createBuilder.build();
+        String uploadId = executeBlocking(client, s3 -> s3.createMultipartUpload(createRequest),
+                s3 -> s3.createMultipartUpload(createRequest)).uploadId();
+
+        long objectSize = head.contentLength();
+        int partCount = (int) ((objectSize + partSize - 1) / partSize);
+        try {
+            List<CompletedPart> parts = ParallelExecutor.run(partCount, maxConcurrency, index -> {
+                long start = index * partSize;
+                long end = Math.min(start + partSize, objectSize) - 1;
+                UploadPartCopyRequest request = UploadPartCopyRequest.builder()
+                        .sourceBucket(sourceBucket)
+                        .sourceKey(sourceKey)
+                        .destinationBucket(destBucket)
+                        .destinationKey(destKey)
+                        .uploadId(uploadId)
+                        .partNumber(index + 1)
+                        .copySourceRange("bytes=" + start + "-" + end)
+                        .copySourceIfMatch(head.eTag())
+                        .build();
+                UploadPartCopyResponse response = executeBlocking(client, s3 -> s3.uploadPartCopy(request),
+                        s3 -> s3.uploadPartCopy(request));
+                return CompletedPart.builder()
+                        .partNumber(index + 1)
+                        .eTag(response.copyPartResult().eTag())
+                        .build();
+            });
+            CompleteMultipartUploadRequest completeRequest = CompleteMultipartUploadRequest.builder()
+                    .bucket(destBucket)
+                    .key(destKey)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build();
+            executeBlocking(client, s3 -> s3.completeMultipartUpload(completeRequest),
+                    s3 -> s3.completeMultipartUpload(completeRequest));
+        } catch (RuntimeException e) {
+            AbortMultipartUploadRequest abortRequest = AbortMultipartUploadRequest.builder()
+                    .bucket(destBucket)
+                    .key(destKey)
+                    .uploadId(uploadId)
+                    .build();
+            try {
+                executeBlocking(client, s3 -> s3.abortMultipartUpload(abortRequest),
+                        s3 -> s3.abortMultipartUpload(abortRequest));
+            } catch (RuntimeException abortError) {
+                e.addSuppressed(abortError);
+            }
+            throw e;
+        }
+    }
+
+    // Merge-joins the listings of both prefixes by the key relative to its prefix, which keeps the order of both
+    // listings. Keys that are missing in the destination or differ in size or ETag are copied, and keys that only
+    // exist in the destination are deleted in batches when deleteExtras is set. At most maxConcurrency copies and
+    // deletes are in flight, and the next pages of both listings are fetched while they run.
+    public static Object syncPrefix(Environment env, BObject clientObj, BString sourceBucket, BString sourcePrefix,
+            BString destBucket, BString destPrefix, BMap<BString, Object> config) {
+        Object clientOrError = getClient(clientObj);
+        if (clientOrError instanceof BError) {
+            return clientOrError;
+        }
+        try {
+            boolean deleteExtras = getBooleanConfig(config, "deleteExtras").orElse(false);
+            String srcBucket = sourceBucket.getValue();
+            String srcPrefix = sourcePrefix.getValue();
+            String dstBucket = destBucket.getValue();
+            String dstPrefix = destPrefix.getValue();
+            // The source listing would pick up the copies written under a nested destination prefix and copy them
+            // again, without end
+            if (srcBucket.equals(dstBucket) && (srcPrefix.startsWith(dstPrefix) || dstPrefix.startsWith(srcPrefix))) {
+                return ErrorCreator.createError("Source prefix '" + srcPrefix + "' and destination prefix '"
+                        + dstPrefix + "' overlap in bucket " + srcBucket);
+            }
+
+            SyncState state = new SyncState(getMaxConcurrency(config));
+            MetadataCache cache = getMetadataCache(clientObj);
+            ObjectLister sourceLister = createPrefixLister(clientOrError, srcBucket, srcPrefix);
+            ObjectLister destLister = createPrefixLister(clientOrError, dstBucket, dstPrefix);
+            try {
+                ListingCursor source = new ListingCursor(env, sourceLister);
+                ListingCursor dest = new ListingCursor(env, destLister);
+                List<ObjectIdentifier> extras = new ArrayList<>();
+                S3Object sourceObject = source.next();
+                S3Object destObject = dest.next();
+                while (sourceObject != null || destObject != null) {
+                    int order = sourceObject == null ? 1 : destObject == null ? -1
+                            : compareKeySuffixes(sourceObject.key(), srcPrefix, destObject.key(), dstPrefix);
+                    if (order > 0) {
+                        if (deleteExtras) {
+                            extras.add(ObjectIdentifier.builder().key(destObject.key()).build());
+                            if (extras.size() == MAX_DELETE_BATCH_SIZE) {
+                                submitSyncDelete(env, clientOrError, cache, dstBucket, extras, state);
+                                extras = new ArrayList<>();
+                            }
+                        }
+                        destObject = dest.next();
+                        continue;
+                    }
+
+                    if (order == 0 && sourceObject.size().equals(destObject.size())
+                            && sourceObject.eTag().equals(destObject.eTag())) {
+                        state.skipped(sourceObject.size());
+                    } else {
+                        S3Object object = sourceObject;
+                        String destKey = dstPrefix + object.key().substring(srcPrefix.length());
+                        state.submit(env, () -> {
+                            try {
+                                syncCopy(clientOrError, srcBucket, object, dstBucket, destKey, config,
+                                        state.maxConcurrency);
+                                state.copied(object.size());
+                            } catch (RuntimeException e) {
+                                state.failed(object.key(), object.size(), e.getMessage());
+                            } finally {
+                                invalidateMetadata(cache, dstBucket, destKey);
+                            }
+                        });
+                    }
+                    sourceObject = source.next();
+                    if (order == 0) {
+                        destObject = dest.next();
+                    }
+                }
+                if (!extras.isEmpty()) {
+                    submitSyncDelete(env, clientOrError, cache, dstBucket, extras, state);
+                }
+            } finally {
+                sourceLister.close();
+                destLister.close();
+                state.awaitAll(env);
+            }
+            return state.toRecord();
+        } catch (Exception e) {
+            return ErrorCreator.createError(e);
+        }
+    }
+
+    // The merge-join compares the keys below the prefixes in the order of the listings
+    static int compareKeySuffixes(String sourceKey, String sourcePrefix, String destKey, String destPrefix) {
+        return KeyOrder.compare(sourceKey.substring(sourcePrefix.length()), destKey.substring(destPrefix.length()));
+    }
+
+    private static ObjectLister createPrefixLister(Object client, String bucket, String prefix) {
+        ListObjectsV2Request request = ListObjectsV2Request.builder()
+                .bucket(bucket)
+                .prefix(prefix)
+                .build();
+        return new ObjectLister(request, -1, pageRequest -> executeAsync(client,
+                s3 -> s3.listObjectsV2(pageRequest), s3 -> s3.listObjectsV2(pageRequest)));
+    }
+
+    // Runs on a transfer worker thread. The copy is pinned to the listed ETag, so a source that changed after it
+    // was listed fails instead of being copied unchecked.
+    private static void syncCopy(Object client, String sourceBucket, S3Object source, String destBucket,
+            String destKey, BMap<BString, Object> config, int maxConcurrency) {
+        if (source.size() <= MAX_COPY_PART_SIZE) {
+            CopyObjectRequest request = CopyObjectRequest.builder()
+                    .sourceBucket(sourceBucket)
+                    .sourceKey(source.key())
+                    .destinationBucket(destBucket)
+                    .destinationKey(destKey)
+                    .copySourceIfMatch(source.eTag())
+                    .build();
+            executeBlocking(client, s3 -> s3.copyObject(request), s3 -> s3.copyObject(request));
+            return;
+        }
+        HeadObjectRequest headRequest = HeadObjectRequest.builder()
+                .bucket(sourceBucket)
+                .key(source.key())
+                .ifMatch(source.eTag())
+                .build();
+        HeadObjectResponse head = executeBlocking(client, s3 -> s3.headObject(headRequest),
+                s3 -> s3.headObject(headRequest));
+        multipartCopy(client, sourceBucket, source.key(), destBucket, destKey, head, config,
+                getCopyPartSize(config, source.size()), maxConcurrency);
+    }
+
+    private static void submitSyncDelete(Environment env, Object client, MetadataCache cache, String bucket,
+            List<ObjectIdentifier> objects, SyncState state) {
+        DeleteObjectsRequest request = DeleteObjectsRequest.builder()
+                .bucket(bucket)
+                .delete(Delete.builder().objects(objects).quiet(true).build())
+                .build();
+        state.submit(env, () -> {
+            try {
+                List<S3Error> errors = executeBlocking(client, s3 -> s3.deleteObjects(request),
+                        s3 -> s3.deleteObjects(request)).errors();
+                state.deleted(objects.size() - errors.size());
+                errors.forEach(error -> state.failed(error.key(), 0, error.message()));
+            } catch (RuntimeException e) {
+                objects.forEach(object -> state.failed(object.key(), 0, e.getMessage()));
+            } finally {
+                objects.forEach(object -> invalidateMetadata(cache, bucket, object.key()));
+            }
+        });
+    }
+
+    // Reads a listing object by object, yielding the strand while a page is awaited
+    private static final class ListingCursor {
+        private final Environment env;
+        private final ObjectPageSource source;
+        private List<S3Object> page = List.of();
+        private int index = 0;
+
+        private ListingCursor(Environment env, ObjectPageSource source) {
+            this.env = env;
+            this.source = source;
+        }
+
+        private S3Object next() {
+            while (index >= page.size()) {
+                List<S3Object> nextPage = env.yieldAndRun(source::nextPage);
+                if (nextPage == null) {
+                    return null;
+                }
+                page = nextPage;
+                index = 0;
+            }
+            return page.get(index++);
+        }
+    }
+
+    // Counts of a prefix sync, updated by the copy and delete tasks
+    private static final class SyncState {
+        private final int maxConcurrency;
+        private final Semaphore slots;
+        private final List<Map.Entry<String, String>> failures = new ArrayList<>();
+        private long copiedObjects;
+        private long copiedBytes;
+        private long skippedObjects;
+        private long skippedBytes;
+        private long failedObjects;
+        private long failedBytes;
+        private long deletedObjects;
+
+        private SyncState(int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+            this.slots = new Semaphore(maxConcurrency);
+        }
+
+        private void submit(Environment env, Runnable task) {
+            env.yieldAndRun(() -> {
+                slots.acquireUninterruptibly();
+                return null;
+            });
+            ParallelExecutor.supply(() -> {
+                try {
+                    task.run();
+                } finally {
+                    slots.release();
+                }
+                return null;
+            });
+        }
+
+        private void awaitAll(Environment env) {
+            env.yieldAndRun(() -> {
+                slots.acquireUninterruptibly(maxConcurrency);
+                slots.release(maxConcurrency);
+                return null;
+            });
+        }
+
+        private synchronized void copied(long size) {
+            copiedObjects++;
+            copiedBytes += size;
+        }
+
+        private synchronized void skipped(long size) {
+            skippedObjects++;
+            skippedBytes += size;
+        }
+
+        private synchronized void failed(String key, long size, String message) {
+            failedObjects++;
+            failedBytes += size;
+            failures.add(Map.entry(key, message != null ? message : ""));
+        }
+
+        private synchronized void deleted(long count) {
+            deletedObjects += count;
+        }
+
+        private synchronized BMap<BString, Object> toRecord() {
+            return RecordCreator.createSyncResult(copiedObjects, copiedBytes, skippedObjects, skippedBytes,
+                    failedObjects, failedBytes, deletedObjects, failures);
+        }
+    }
+
+    // The part size grows beyond the configured size when the object would otherwise need more than the maximum
+    // number of parts
+    private static long getCopyPartSize(BMap<BString, Object> config, long objectSize) {
+        long partSize = Math.max(getPartSize(config), (objectSize + MAX_PART_COUNT - 1) / MAX_PART_COUNT);
+        if (partSize > MAX_COPY_PART_SIZE) {
+            throw new IllegalArgumentException("partSize must be at most " + MAX_COPY_PART_SIZE
+                    + " bytes for a copy, got: " + partSize);
+        }
+        return partSize;
+    }
+
+    public static Object doesObjectExist(Environment env, BObject clientObj, BString bucket, BString key) {
+        Object clientOrError = getClient(clientObj);
+        if (clientOrError instanceof BError) {
+            return clientOrError;
+        }
+        try {
+            HeadObjectRequest request = HeadObjectRequest.builder()
+                    .bucket(bucket.getValue())
+                    .key(key.getValue())
+                    .build();
+            headThroughCache(getMetadataCache(clientObj), bucket.getValue(), key.getValue(),
+                    () -> execute(env, clientOrError, s3 -> s3.headObject(request), s3 -> s3.headObject(request)));
+            return true;
+        } catch (NoSuchKeyException e) {
+            return false;
+        } catch (Exception e) {
+            return ErrorCreator.createError(e);
+        }
+    }
+
+    public static Object doObjectsExist(Environment env, BObject clientObj, BString bucket, BArray keys,
+            BMap<BString, Object> config, BMap<BString, Object> results) {
+        return batchHeadObject(env, clientObj, bucket, keys, config, results, true, (key, response) -> true);
+    }
+
+    public static Object getObjectsMetadata(Environment env, BObject clientObj, BString bucket, BArray keys,
+            BMap<BString, Object> config, BMap<BString, Object> results) {
+        return batchHeadObject(env, clientObj, bucket, keys, config, results, false,
+                RecordCreator::createObjectMetadata);
+    }
+
+    // Sends a HEAD request for each distinct key with at most maxConcurrency requests in flight, and puts the
+    // result or the error of each key in the results map
+    private static Object batchHeadObject(Environment env, BObject clientObj, BString bucket, BArray keys,
+            BMap<BString, Object> config, BMap<BString, Object> results, boolean missingAsFalse,
+            BiFunction<BString, HeadObjectResponse, Object> resultMapper) {
+        Object clientOrError = getClient(clientObj);
+        if (clientOrError instanceof BError) {
+            return clientOrError;
+        }
+        try {
+            int maxConcurrency = getMaxConcurrency(config);
+            MetadataCache cache = getMetadataCache(clientObj);
+            List<BString> distinctKeys = new ArrayList<>(new LinkedHashSet<>(Arrays.asList(toBStringArray(keys))));
+            List<Object> keyResults = env.yieldAndRun(() -> ParallelExecutor.run(distinctKeys.size(), maxConcurrency,
+                    index -> {
+                        BString key = distinctKeys.get(index);
+                        HeadObjectRequest request = HeadObjectRequest.builder()
+                                .bucket(bucket.getValue())
+                                .key(key.getValue())
+                                .build();
+                        try {
+                            HeadObjectResponse response = headThroughCache(cache, bucket.getValue(), key.getValue(),
+                                    () -> executeBlocking(clientOrError,
+                                            s3 -> s3.headObject(request), s3 -> s3.headObject(request)));
+                            return resultMapper.apply(key, response);
+                        } catch (NoSuchKeyException e) {
+                            return missingAsFalse ? false : ErrorCreator.createError(e);
+                        } catch (RuntimeException e) {
+                            return ErrorCreator.createError(e);
+                        }
+                    }));
+            for (int i = 0; i < distinctKeys.size(); i++) {
+                results.put(distinctKeys.get(i), keyResults.get(i));
+            }
+            return null;
+        } catch (Exception e) {
+            return ErrorCreator.createError(e);
+        }
+    }
+
+    private static MetadataCache getMetadataCache(BObject clientObj) {
+        Object cache = clientObj.getNativeData(NATIVE_METADATA_CACHE);
+        return cache instanceof MetadataCache ? (MetadataCache) cache : null;
+    }
+
+    // Answers a plain HEAD request from the metadata cache, and caches the response or the missing key of a miss.
+    // A missing key throws NoSuchKeyException as the request would, so callers handle both cases the same way
+    private static HeadObjectResponse headThroughCache(MetadataCache cache, String bucket, String key,
+            Supplier<HeadObjectResponse> headRequest) {
+        if (cache == null) {
+            return headRequest.get();
+        }
+        MetadataCache.Entry entry = cache.get(bucket, key);
+        if (entry != null) {
+            if (entry.missing != null) {
+                throw entry.missing;
+            }
+            return entry.response;
+        }
+        long generation = cache.generation();
+        try {
+            HeadObjectResponse response = headRequest.get();
+            cache.put(bucket, key, response, generation);
+            return response;
+        } catch (NoSuchKeyException e) {
+            cache.putMissing(bucket, key, e, generation);
+            throw e;
+        }
+    }
+
+    // Drops the cached metadata of an object that was written or deleted through the client. Called once the
+    // request ends, also when it fails, as a failed request may still have changed the object
+    private static void invalidateMetadata(MetadataCache cache, String bucket, String key) {
+        if (cache != null) {
+            cache.invalidate(bucket, key);
+        }
+    }
+
+    private static boolean hasAnyConfig(BMap<BString, Object> config, String[] keys) {
+        for (String key : keys) {
+            if (config.get(StringUtils.fromString(key)) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static Object getMetrics(BObject clientObj) {
+        Object metrics = clientObj.getNativeData(NATIVE_METRICS);
+        return metrics instanceof MetricsCollector ? RecordCreator.createClientMetrics((MetricsCollector) metrics)
+                : null;
+    }
+
+    public static Object getMetadataCacheStats(BObject clientObj) {
+        MetadataCache cache = getMetadataCache(clientObj);
+        if (cache == null) {
+            return null;
+        }
+        long[] stats = cache.stats();
+        return RecordCreator.createMetadataCacheStats(stats[0], stats[1], stats[2], stats[3]);
+    }
+
+    private static BString[] toBStringArray(BArray values) {
+        BString[] strings = new BString[values.size()];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = values.getBString(i);
+        }
+        return strings;
+    }
+
+    // Multipart Upload Operations
+
+    public static Object createMultipartUpload(Environment env, BObject clientObj, BString bucket, BString key,
+            BMap<BString, Object> config) {
+        Object clientOrError = getClient(clientObj);
+        if (clientOrError instanceof BError) {
+            return clientOrError;
+        }
+        try {
+            CreateMultipartUploadRequest.Builder builder = CreateMultipartUploadRequest.builder()
+                    .bucket(bucket.getValue())
+                    .key(key.getValue());
+
             applyMultipartConfig(builder, config);
 
-            CreateMultipartUploadResponse response = s3.createMultipartUpload(builder.build());
+            CreateMultipartUploadRequest request = builder.build();
+            CreateMultipartUploadResponse response = execute(env, clientOrError,
+                    s3 -> s3.createMultipartUpload(request), s3 -> s3.createMultipartUpload(request));
             return StringUtils.fromString(response.uploadId());
         } catch (Exception e) {
             return ErrorCreator.createError(e);
@@ -797,14 +2053,12 @@ public class NativeClientAdaptor {
         applyStringConfig(config, "contentEncoding", builder::contentEncoding);
     }
 
-    public static Object uploadPart(BObject clientObj, BString bucket, BString key, BString uploadId,
+    public static Object uploadPart(Environment env, BObject clientObj, BString bucket, BString key, BString uploadId,
             long partNumber, BArray content, BMap<BString, Object> config) {
         Object clientOrError = getClient(clientObj);
         if (clientOrError instanceof BError) {
             return clientOrError;
         }
-        @SuppressWarnings("resource")
-        S3Client s3 = (S3Client) clientOrError;
         try {
             byte[] contentBytes = content.getBytes();
 
@@ -816,9 +2070,12 @@ public class NativeClientAdaptor {
 
             applyLongConfig(config, "contentLength", builder::contentLength);
             applyStringConfig(config, "contentMD5", builder::contentMD5);
+            applyStringConfig(config, "checksumAlgorithm", builder::checksumAlgorithm);
 
             UploadPartRequest request = builder.build();
-            UploadPartResponse response = s3.uploadPart(request, RequestBody.fromBytes(contentBytes));
+            UploadPartResponse response = execute(env, clientOrError,
+                    s3 -> s3.uploadPart(request, RequestBody.fromBytes(contentBytes)),
+                    s3 -> s3.uploadPart(request, AsyncRequestBody.fromBytes(contentBytes)));
 
             return StringUtils.fromString(response.eTag());
         } catch (Exception e) {
@@ -832,8 +2089,6 @@ public class NativeClientAdaptor {
         if (clientOrError instanceof BError) {
             return clientOrError;
         }
-        @SuppressWarnings("resource")
-        S3Client s3 = (S3Client) clientOrError;
         try {
             long contentLength = config.getIntValue(StringUtils.fromString("contentLength"));
 
@@ -850,10 +2105,21 @@ public class NativeClientAdaptor {
                     .contentLength(contentLength);
 
             applyStringConfig(config, "contentMD5", builder::contentMD5);
+            applyStringConfig(config, "checksumAlgorithm", builder::checksumAlgorithm);
 
-            try (InputStream inputStream = new BallerinaStreamInputStream(env, contentStream)) {
-                UploadPartResponse response = s3.uploadPart(builder.build(),
-                        RequestBody.fromInputStream(inputStream, contentLength));
+            UploadPartRequest request = builder.build();
+            try (InputStream inputStream = createStreamInputStream(env, contentStream, config)) {
+                UploadPartResponse response;
+                if (clientOrError instanceof S3AsyncClient) {
+                    BlockingInputStreamAsyncRequestBody body = AsyncRequestBody.forBlockingInputStream(contentLength);
+                    CompletableFuture<UploadPartResponse> future =
+                            ((S3AsyncClient) clientOrError).uploadPart(request, body);
+                    body.writeInputStream(inputStream);
+                    response = await(env, future);
+                } else {
+                    response = ((S3Client) clientOrError).uploadPart(request,
+                            RequestBody.fromInputStream(inputStream, contentLength));
+                }
                 return StringUtils.fromString(response.eTag());
             }
         } catch (Exception e) {
@@ -861,14 +2127,12 @@ public class NativeClientAdaptor {
         }
     }
 
-    public static Object completeMultipartUpload(BObject clientObj, BString bucket, BString key, BString uploadId,
-            BArray partNumbers, BArray etags) {
+    public static Object completeMultipartUpload(Environment env, BObject clientObj, BString bucket, BString key,
+            BString uploadId, BArray partNumbers, BArray etags) {
         Object clientOrError = getClient(clientObj);
         if (clientOrError instanceof BError) {
             return clientOrError;
         }
-        @SuppressWarnings("resource")
-        S3Client s3 = (S3Client) clientOrError;
         try {
             long[] pNums = partNumbers.getIntArray();
             String[] eTagsStr = etags.getStringArray();
@@ -899,20 +2163,22 @@ public class NativeClientAdaptor {
                     .multipartUpload(completedMultipartUpload)
                     .build();
 
-            s3.completeMultipartUpload(request);
+            execute(env, clientOrError, s3 -> s3.completeMultipartUpload(request),
+                    s3 -> s3.completeMultipartUpload(request));
             return null;
         } catch (Exception e) {
             return ErrorCreator.createError(e);
+        } finally {
+            invalidateMetadata(getMetadataCache(clientObj), bucket.getValue(), key.getValue());
         }
     }
 
-    public static Object abortMultipartUpload(BObject clientObj, BString bucket, BString key, BString uploadId) {
+    public static Object abortMultipartUpload(Environment env, BObject clientObj, BString bucket, BString key,
+            BString uploadId) {
         Object clientOrError = getClient(clientObj);
         if (clientOrError instanceof BError) {
             return clientOrError;
         }
-        @SuppressWarnings("resource")
-        S3Client s3 = (S3Client) clientOrError;
         try {
             AbortMultipartUploadRequest request = AbortMultipartUploadRequest.builder()
                     .bucket(bucket.getValue())
@@ -920,59 +2186,508 @@ public class NativeClientAdaptor {
                     .uploadId(uploadId.getValue())
                     .build();
 
-            s3.abortMultipartUpload(request);
+            execute(env, clientOrError, s3 -> s3.abortMultipartUpload(request),
+                    s3 -> s3.abortMultipartUpload(request));
             return null;
         } catch (Exception e) {
             return ErrorCreator.createError(e);
         }
     }
 
-    // Presigned URL Operations
+    // Managed Upload Operations
 
-    public static Object createPresignedUrl(BObject clientObj, BString bucket, BString key,
+    // Provides the request body of a byte range of the content being uploaded, for the sync and async clients
+    private interface PartBodyProvider {
+        RequestBody syncBody(long offset, long length);
+
+        AsyncRequestBody asyncBody(long offset, long length);
+    }
+
+    public static Object uploadFile(Environment env, BObject clientObj, BString bucket, BString key,
+            BString filePath, BMap<BString, Object> config) {
+        Object clientOrError = getClient(clientObj);
+        if (clientOrError instanceof BError) {
+            return clientOrError;
+        }
+        try {
+            Path path = Paths.get(filePath.getValue());
+            long fileSize = Files.size(path);
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                // Parts are streamed from their file region, so at most one buffer per in-flight part is in memory
+                PartBodyProvider bodies = new PartBodyProvider() {
+                    @Override
+                    public RequestBody syncBody(long offset, long length) {
+                        return RequestBody.fromContentProvider(
+                                () -> new FileRegionInputStream(channel, offset, length), length, OCTET_STREAM);
+                    }
+
+                    @Override
+                    public AsyncRequestBody asyncBody(long offset, long length) {
+                        return AsyncRequestBody.fromFile(FileRequestBodyConfiguration.builder()
+                                .path(path)
+                                .position(offset)
+                                .numBytesToRead(length)
+                                .build());
+                    }
+                };
+                managedUpload(env, clientOrError, bucket.getValue(), key.getValue(), config, fileSize, bodies);
+            }
+            return null;
+        } catch (Exception e) {
+            return ErrorCreator.createError(e);
+        } finally {
+            invalidateMetadata(getMetadataCache(clientObj), bucket.getValue(), key.getValue());
+        }
+    }
+
+    public static Object putLargeObject(Environment env, BObject clientObj, BString bucket, BString key,
+            BArray content, BMap<BString, Object> config) {
+        Object clientOrError = getClient(clientObj);
+        if (clientOrError instanceof BError) {
+            return clientOrError;
+        }
+        try {
+            byte[] bytes = content.getBytes();
+            managedUpload(env, clientOrError, bucket.getValue(), key.getValue(), config, bytes.length,
+                    byteArrayBodies(bytes));
+            return null;
+        } catch (Exception e) {
+            return ErrorCreator.createError(e);
+        } finally {
+            invalidateMetadata(getMetadataCache(clientObj), bucket.getValue(), key.getValue());
+        }
+    }
+
+    // Request bodies that read from the array without copying it
+    private static PartBodyProvider byteArrayBodies(byte[] bytes) {
+        return new PartBodyProvider() {
+            @Override
+            public RequestBody syncBody(long offset, long length) {
+                return RequestBody.fromContentProvider(
+                        () -> new ByteArrayInputStream(bytes, (int) offset, (int) length), length, OCTET_STREAM);
+            }
+
+            @Override
+            public AsyncRequestBody asyncBody(long offset, long length) {
+                return AsyncRequestBody.fromByteBufferUnsafe(
+                        ByteBuffer.wrap(bytes, (int) offset, (int) length).slice());
+            }
+        };
+    }
+
+    private static long getPartSize(BMap<BString, Object> config) {
+        long partSize = getPositiveLongConfig(config, "partSize").orElse(DEFAULT_PART_SIZE);
+        if (partSize < MIN_PART_SIZE) {
+            throw new IllegalArgumentException("partSize must be at least " + MIN_PART_SIZE + " bytes, got: "
+                    + partSize);
+        }
+        return partSize;
+    }
+
+    private static int getMaxConcurrency(BMap<BString, Object> config) {
+        return getPositiveLongConfig(config, "maxConcurrency").orElse(DEFAULT_MAX_CONCURRENCY).intValue();
+    }
+
+    private static void putSingleObject(Environment env, Object client, String bucket, String key,
+            BMap<BString, Object> config, long contentLength, PartBodyProvider bodies) {
+        PutObjectRequest.Builder builder = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentLength(contentLength);
+        applyPutObjectConfig(builder, config);
+        PutObjectRequest request = builder.build();
+        execute(env, client, s3 -> s3.putObject(request, bodies.syncBody(0, contentLength)),
+                s3 -> s3.putObject(request, bodies.asyncBody(0, contentLength)));
+    }
+
+    private static String startMultipartUpload(Environment env, Object client, String bucket, String key,
             BMap<BString, Object> config) {
-        S3Presigner presigner = null;
+        CreateMultipartUploadRequest.Builder builder = CreateMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(key);
+        applyMultipartConfig(builder, config);
+        String checksumAlgorithm = getChecksumAlgorithm(config);
+        if (checksumAlgorithm != null) {
+            builder.checksumAlgorithm(checksumAlgorithm).checksumType(getChecksumType(checksumAlgorithm));
+        }
+        CreateMultipartUploadRequest request = builder.build();
+        return execute(env, client, s3 -> s3.createMultipartUpload(request),
+                s3 -> s3.createMultipartUpload(request)).uploadId();
+    }
+
+    private static String getChecksumAlgorithm(BMap<BString, Object> config) {
+        return getStringConfig(config, "checksumAlgorithm").orElse(null);
+    }
+
+    // S3 combines the CRC checksums of the parts into the checksum of the whole object. SHA-256 checksums cannot be
+    // combined, so the object gets a checksum of the part checksums instead
+    private static ChecksumType getChecksumType(String checksumAlgorithm) {
+        return CHECKSUM_SHA256.equals(checksumAlgorithm) ? ChecksumType.COMPOSITE : ChecksumType.FULL_OBJECT;
+    }
+
+    // Runs on a transfer worker thread. The SDK computes the checksum of the part while the body is sent
+    private static CompletedPart uploadManagedPart(Object client, String bucket, String key, String uploadId,
+            int partNumber, PartBodyProvider bodies, long offset, long length, String checksumAlgorithm) {
+        UploadPartRequest request = UploadPartRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .uploadId(uploadId)
+                .partNumber(partNumber)
+                .contentLength(length)
+                .checksumAlgorithm(checksumAlgorithm)
+                .build();
+        UploadPartResponse response = executeBlocking(client,
+                s3 -> s3.uploadPart(request, bodies.syncBody(offset, length)),
+                s3 -> s3.uploadPart(request, bodies.asyncBody(offset, length)));
+        CompletedPart.Builder part = CompletedPart.builder().partNumber(partNumber).eTag(response.eTag());
+        if (checksumAlgorithm != null) {
+            // An upload that was created with a checksum algorithm needs the checksum of every part to complete
+            part.checksumCRC32C(response.checksumCRC32C())
+                    .checksumCRC64NVME(response.checksumCRC64NVME())
+                    .checksumSHA256(response.checksumSHA256());
+        }
+        return part.build();
+    }
+
+    private static void finishMultipartUpload(Environment env, Object client, String bucket, String key,
+            String uploadId, List<CompletedPart> parts, String checksumAlgorithm) {
+        CompleteMultipartUploadRequest.Builder builder = CompleteMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .uploadId(uploadId)
+                .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build());
+        if (checksumAlgorithm != null) {
+            builder.checksumType(getChecksumType(checksumAlgorithm));
+        }
+        CompleteMultipartUploadRequest request = builder.build();
+        execute(env, client, s3 -> s3.completeMultipartUpload(request), s3 -> s3.completeMultipartUpload(request));
+    }
+
+    // Aborts a failed managed upload so that no orphaned parts are left behind. A failure to abort is attached
+    // to the original failure rather than replacing it.
+    private static void abortManagedUpload(Environment env, Object client, String bucket, String key,
+            String uploadId, Exception failure) {
+        AbortMultipartUploadRequest request = AbortMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .uploadId(uploadId)
+                .build();
+        try {
+            execute(env, client, s3 -> s3.abortMultipartUpload(request), s3 -> s3.abortMultipartUpload(request));
+        } catch (RuntimeException abortError) {
+            failure.addSuppressed(abortError);
+        }
+    }
+
+    // Uploads the content as parts that are sent in parallel, or with a single PutObject when it fits in one part.
+    // The multipart upload is aborted if any part fails.
+    private static void managedUpload(Environment env, Object client, String bucket, String key,
+            BMap<BString, Object> config, long contentLength, PartBodyProvider bodies) {
+        long partSize = getPartSize(config);
+        int maxConcurrency = getMaxConcurrency(config);
+        long partCount = Math.max(1, (contentLength + partSize - 1) / partSize);
+        if (partCount > MAX_PART_COUNT) {
+            throw new IllegalArgumentException("Content of " + contentLength + " bytes needs " + partCount
+                    + " parts with partSize " + partSize + ", which exceeds the limit of " + MAX_PART_COUNT);
+        }
 
+        if (partCount == 1) {
+            putSingleObject(env, client, bucket, key, config, contentLength, bodies);
+            return;
+        }
+
+        String checksumAlgorithm = getChecksumAlgorithm(config);
+        String uploadId = startMultipartUpload(env, client, bucket, key, config);
         try {
-            long expirationMinutes = config.getIntValue(StringUtils.fromString("expirationMinutes"));
+            List<CompletedPart> parts = env.yieldAndRun(() -> ParallelExecutor.run((int) partCount, maxConcurrency,
+                    index -> {
+                        long offset = index * partSize;
+                        long length = Math.min(partSize, contentLength - offset);
+                        return uploadManagedPart(client, bucket, key, uploadId, index + 1, bodies, offset, length,
+                                checksumAlgorithm);
+                    }));
+            finishMultipartUpload(env, client, bucket, key, uploadId, parts, checksumAlgorithm);
+        } catch (RuntimeException e) {
+            abortManagedUpload(env, client, bucket, key, uploadId, e);
+            throw e;
+        }
+    }
 
-            Object methodObj = config.get(StringUtils.fromString("httpMethod"));
-            String httpMethod = (methodObj instanceof BString)
-                    ? ((BString) methodObj).getValue().toUpperCase()
-                    : "GET";
+    // Uploads a stream of unknown length. Content that fits in one part is sent with a single PutObject. Otherwise
+    // each part is uploaded as soon as it is filled, while the next part is read. A part buffer is only filled once
+    // one of the maxConcurrency upload slots is free, which bounds the memory to maxConcurrency + 1 parts.
+    private static void streamingUpload(Environment env, Object client, String bucket, String key,
+            BMap<BString, Object> config, InputStream input) throws IOException {
+        long partSize = getPartSize(config);
+        if (partSize > MAX_BUFFERED_PART_SIZE) {
+            throw new IllegalArgumentException("partSize must be at most " + MAX_BUFFERED_PART_SIZE
+                    + " bytes when the content length is unknown, got: " + partSize);
+        }
+        int maxConcurrency = getMaxConcurrency(config);
 
-            Object connOrError = getConnectionConfig(clientObj);
-            if (connOrError instanceof BError) {
-                return connOrError;
+        byte[] part = input.readNBytes((int) partSize);
+        if (part.length < partSize) {
+            putSingleObject(env, client, bucket, key, config, part.length, byteArrayBodies(part));
+            return;
+        }
+
+        String checksumAlgorithm = getChecksumAlgorithm(config);
+        String uploadId = startMultipartUpload(env, client, bucket, key, config);
+        Semaphore uploadSlots = new Semaphore(maxConcurrency);
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        List<CompletableFuture<CompletedPart>> uploads = new ArrayList<>();
+        try {
+            int partNumber = 1;
+            while (part.length > 0) {
+                if (partNumber > MAX_PART_COUNT) {
+                    throw new IllegalArgumentException("Stream content exceeds " + MAX_PART_COUNT + " parts of "
+                            + partSize + " bytes, use a larger partSize");
+                }
+                env.yieldAndRun(() -> {
+                    uploadSlots.acquireUninterruptibly();
+                    return null;
+                });
+                if (failure.get() != null) {
+                    throw failure.get();
+                }
+                byte[] body = part;
+                int number = partNumber;
+                uploads.add(ParallelExecutor.supply(() -> {
+                    try {
+                        return uploadManagedPart(client, bucket, key, uploadId, number, byteArrayBodies(body),
+                                0, body.length, checksumAlgorithm);
+                    } catch (RuntimeException e) {
+                        failure.compareAndSet(null, e);
+                        throw e;
+                    } finally {
+                        uploadSlots.release();
+                    }
+                }));
+                partNumber++;
+                part = input.readNBytes((int) partSize);
             }
-            ConnectionConfig connConfig = (ConnectionConfig) connOrError;
 
-            presigner = S3Presigner.builder()
-                    .region(connConfig.region)
-                    .credentialsProvider(connConfig.credentialsProvider)
-                    .build();
+            List<CompletedPart> parts = env.yieldAndRun(() -> uploads.stream().map(NativeClientAdaptor::join)
+                    .toList());
+            finishMultipartUpload(env, client, bucket, key, uploadId, parts, checksumAlgorithm);
+        } catch (IOException | RuntimeException e) {
+            // Let the parts in flight finish first, so that none of them is stored after the abort
+            env.yieldAndRun(() -> CompletableFuture.allOf(uploads.toArray(new CompletableFuture<?>[0]))
+                    .exceptionally(t -> null).join());
+            abortManagedUpload(env, client, bucket, key, uploadId, e);
+            throw e;
+        }
+    }
 
-            String presignedUrl = "GET".equals(httpMethod)
-                    ? generateGetPresignedUrl(presigner, bucket.getValue(), key.getValue(), expirationMinutes, config)
-                    : "PUT".equals(httpMethod)
-                            ? generatePutPresignedUrl(presigner, bucket.getValue(), key.getValue(), expirationMinutes,
-                                    config)
-                            : null;
+    // Parallel Download Operations
 
-            if (presignedUrl == null) {
-                return ErrorCreator.createError(
-                        "Unsupported HTTP method: " + httpMethod + ". Supported methods: GET, PUT");
+    public static Object downloadFile(Environment env, BObject clientObj, BString bucket, BString key,
+            BString filePath, BMap<BString, Object> config) {
+        Object clientOrError = getClient(clientObj);
+        if (clientOrError instanceof BError) {
+            return clientOrError;
+        }
+        Path target = Paths.get(filePath.getValue()).toAbsolutePath();
+        Path tempFile = null;
+        try {
+            RangedDownload download = createRangedDownload(env, clientOrError, bucket, key, config);
+            // The ranges are written to a temporary file next to the target, which replaces the target only once
+            // every range is written, so a failed download leaves an existing file untouched
+            tempFile = Files.createTempFile(target.getParent(), "." + target.getFileName(), ".part");
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                env.yieldAndRun(() -> {
+                    download.toFile(channel);
+                    return null;
+                });
+                channel.force(false);
+            }
+            Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            return null;
+        } catch (Exception e) {
+            if (tempFile != null) {
+                try {
+                    Files.deleteIfExists(tempFile);
+                } catch (IOException deleteError) {
+                    e.addSuppressed(deleteError);
+                }
+            }
+            return ErrorCreator.createError(e);
+        }
+    }
+
+    public static Object getLargeObject(Environment env, BObject clientObj, BString bucket, BString key,
+            BMap<BString, Object> config) {
+        Object clientOrError = getClient(clientObj);
+        if (clientOrError instanceof BError) {
+            return clientOrError;
+        }
+        try {
+            RangedDownload download = createRangedDownload(env, clientOrError, bucket, key, config);
+            byte[] content = env.yieldAndRun(download::toBytes);
+            return ValueCreator.createArrayValue(content);
+        } catch (Exception e) {
+            return ErrorCreator.createError(e);
+        }
+    }
+
+    public static Object getLargeObjectAsStream(Environment env, BObject clientObj, BString bucket, BString key,
+            BMap<BString, Object> config) {
+        Object clientOrError = getClient(clientObj);
+        if (clientOrError instanceof BError) {
+            return clientOrError;
+        }
+        try {
+            RangedDownload download = createRangedDownload(env, clientOrError, bucket, key, config);
+            BObject streamWrapper = ValueCreator.createObjectValue(env.getCurrentModule(), "StreamIterator");
+            streamWrapper.addNativeData("NATIVE_STREAM",
+                    new ChunkReader(download.toInputStream(), ChunkReader.DEFAULT_CHUNK_SIZE, 0));
+            return streamWrapper;
+        } catch (Exception e) {
+            return ErrorCreator.createError(e);
+        }
+    }
+
+    // Resolves the object size and layout with a HEAD request and plans the ranged GETs. Every GET is pinned to
+    // the ETag returned by the HEAD, so an object that is replaced during the download fails instead of mixing
+    // content from two versions.
+    private static RangedDownload createRangedDownload(Environment env, Object client, BString bucket, BString key,
+            BMap<BString, Object> config) {
+        long partSize = getPositiveLongConfig(config, "partSize").orElse(DEFAULT_PART_SIZE);
+        int maxConcurrency = getPositiveLongConfig(config, "maxConcurrency")
+                .orElse(DEFAULT_MAX_CONCURRENCY).intValue();
+        boolean usePartLayout = getBooleanConfig(config, "usePartLayout").orElse(false);
+
+        HeadObjectRequest.Builder headBuilder = HeadObjectRequest.builder()
+                .bucket(bucket.getValue())
+                .key(key.getValue());
+        applyStringConfig(config, "versionId", headBuilder::versionId);
+        applyStringConfig(config, "ifMatch", headBuilder::ifMatch);
+        if (usePartLayout) {
+            headBuilder.partNumber(1);
+        }
+        HeadObjectRequest headRequest = headBuilder.build();
+        HeadObjectResponse head = execute(env, client, s3 -> s3.headObject(headRequest),
+                s3 -> s3.headObject(headRequest));
+
+        // With a part number, Content-Length is the size of the part and Content-Range carries the object size
+        String contentRange = head.contentRange();
+        long objectSize = contentRange != null
+                ? Long.parseLong(contentRange.substring(contentRange.lastIndexOf('/') + 1))
+                : head.contentLength();
+
+        GetObjectRequest.Builder getBuilder = GetObjectRequest.builder()
+                .bucket(bucket.getValue())
+                .key(key.getValue())
+                .ifMatch(head.eTag());
+        applyStringConfig(config, "versionId", getBuilder::versionId);
+        GetObjectRequest baseRequest = getBuilder.build();
+
+        int partCount;
+        IntFunction<GetObjectRequest> partRequest;
+        if (usePartLayout && head.partsCount() != null) {
+            partCount = head.partsCount();
+            partRequest = index -> baseRequest.toBuilder().partNumber(index + 1).build();
+        } else {
+            long rangeCount = objectSize / partSize + (objectSize % partSize == 0 ? 0 : 1);
+            if (rangeCount > MAX_RANGE_COUNT) {
+                throw ErrorCreator.createClientError("Object of " + objectSize + " bytes needs " + rangeCount
+                        + " ranges with partSize " + partSize + ", which exceeds the limit of " + MAX_RANGE_COUNT);
             }
+            partCount = (int) rangeCount;
+            partRequest = index -> {
+                long start = index * partSize;
+                long end = Math.min(start + partSize, objectSize) - 1;
+                return baseRequest.toBuilder().range("bytes=" + start + "-" + end).build();
+            };
+        }
 
-            return StringUtils.fromString(presignedUrl);
+        return new RangedDownload(objectSize, partCount, maxConcurrency, index -> {
+            GetObjectRequest request = partRequest.apply(index);
+            return executeBlocking(client, s3 -> s3.getObject(request),
+                    s3 -> s3.getObject(request, AsyncResponseTransformer.toBlockingInputStream()));
+        });
+    }
 
+    // Presigned URL Operations
+
+    public static Object createPresignedUrl(BObject clientObj, BString bucket, BString key,
+            BMap<BString, Object> config) {
+        try {
+            Object presignerOrError = getPresigner(clientObj);
+            if (presignerOrError instanceof BError) {
+                return presignerOrError;
+            }
+            return StringUtils.fromString(presign((S3Presigner) presignerOrError, bucket.getValue(), key.getValue(),
+                    config));
         } catch (Exception e) {
             return ErrorCreator.createError(e);
-        } finally {
-            if (presigner != null) {
-                presigner.close();
+        }
+    }
+
+    public static Object createPresignedUrls(BObject clientObj, BString bucket, BArray keys,
+            BMap<BString, Object> config) {
+        try {
+            Object presignerOrError = getPresigner(clientObj);
+            if (presignerOrError instanceof BError) {
+                return presignerOrError;
+            }
+            S3Presigner presigner = (S3Presigner) presignerOrError;
+            BMap<BString, Object> urls = ValueCreator.createMapValue(
+                    TypeCreator.createMapType(PredefinedTypes.TYPE_STRING));
+            for (int i = 0; i < keys.size(); i++) {
+                BString key = keys.getBString(i);
+                urls.put(key, StringUtils.fromString(presign(presigner, bucket.getValue(), key.getValue(), config)));
             }
+            return urls;
+        } catch (Exception e) {
+            return ErrorCreator.createError(e);
+        }
+    }
+
+    // The presigner is created on first use and kept for the lifetime of the client, as building it resolves the
+    // endpoint and the signer again
+    private static Object getPresigner(BObject clientObj) {
+        Object clientOrError = getClient(clientObj);
+        if (clientOrError instanceof BError) {
+            return clientOrError;
+        }
+        synchronized (clientObj) {
+            Object presigner = clientObj.getNativeData(NATIVE_PRESIGNER);
+            if (presigner == null) {
+                Object connOrError = getConnectionConfig(clientObj);
+                if (connOrError instanceof BError) {
+                    return connOrError;
+                }
+                ConnectionConfig connConfig = (ConnectionConfig) connOrError;
+                S3Presigner.Builder builder = S3Presigner.builder()
+                        .region(connConfig.region)
+                        .credentialsProvider(connConfig.credentialsProvider)
+                        .serviceConfiguration(connConfig.serviceConfiguration())
+                        .dualstackEnabled(connConfig.dualstack);
+                if (connConfig.endpoint != null) {
+                    builder.endpointOverride(connConfig.endpoint);
+                }
+                presigner = builder.build();
+                clientObj.addNativeData(NATIVE_PRESIGNER, presigner);
+            }
+            return presigner;
+        }
+    }
+
+    private static String presign(S3Presigner presigner, String bucket, String key, BMap<BString, Object> config) {
+        long expirationMinutes = config.getIntValue(StringUtils.fromString("expirationMinutes"));
+
+        Object methodObj = config.get(StringUtils.fromString("httpMethod"));
+        String httpMethod = (methodObj instanceof BString)
+                ? ((BString) methodObj).getValue().toUpperCase()
+                : "GET";
+
+        if ("GET".equals(httpMethod)) {
+            return generateGetPresignedUrl(presigner, bucket, key, expirationMinutes, config);
+        } else if ("PUT".equals(httpMethod)) {
+            return generatePutPresignedUrl(presigner, bucket, key, expirationMinutes, config);
         }
+        throw new IllegalArgumentException("Unsupported HTTP method: " + httpMethod + ". Supported methods: GET, PUT");
     }
 
     private static String generateGetPresignedUrl(S3Presigner presigner, String bucket, String key,
@@ -0,0 +1,112 @@
+// Copyright (c) 2025 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+package io.ballerina.lib.aws.s3;
+
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Pages through the objects of a bucket with ListObjectsV2.
+ * The request for the next page is sent as soon as a page arrives, so that it is in flight while the consumer
+ * processes the current page and listing is bound by S3 latency rather than by serial round trips.
+ */
+public class ObjectLister implements ObjectPageSource {
+    private static final int MAX_KEYS_PER_PAGE = 1000;
+
+    private final Function<ListObjectsV2Request, CompletableFuture<ListObjectsV2Response>> pageFetcher;
+    private final int maxKeys;
+    private long remaining;
+    private ListObjectsV2Request request;
+    private CompletableFuture<ListObjectsV2Response> pendingPage;
+
+    /**
+     * @param request     the request for the first page
+     * @param maxObjects  maximum number of objects to return in total, or a negative value for no limit
+     * @param pageFetcher sends a list request and returns the future response
+     */
+    public ObjectLister(ListObjectsV2Request request, long maxObjects,
+            Function<ListObjectsV2Request, CompletableFuture<ListObjectsV2Response>> pageFetcher) {
+        this.pageFetcher = pageFetcher;
+        this.maxKeys = request.maxKeys() != null ? request.maxKeys() : MAX_KEYS_PER_PAGE;
+        this.remaining = maxObjects < 0 ? Long.MAX_VALUE : maxObjects;
+        this.request = request;
+        if (remaining > 0) {
+            fetch(null);
+        }
+    }
+
+    /**
+     * Waits for the next page and starts fetching the one after it.
+     */
+    @Override
+    public synchronized List<S3Object> nextPage() {
+        if (pendingPage == null) {
+            return null;
+        }
+        ListObjectsV2Response response;
+        try {
+            response = pendingPage.join();
+        } catch (CompletionException e) {
+            pendingPage = null;
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+
+        List<S3Object> objects = response.contents();
+        if (objects.size() > remaining) {
+            objects = objects.subList(0, (int) remaining);
+        }
+        remaining -= objects.size();
+
+        if (remaining > 0 && Boolean.TRUE.equals(response.isTruncated())
+                && response.nextContinuationToken() != null) {
+            fetch(response.nextContinuationToken());
+        } else {
+            pendingPage = null;
+        }
+        return objects;
+    }
+
+    /**
+     * Cancels the page that is in flight.
+     */
+    @Override
+    public synchronized void close() {
+        if (pendingPage != null) {
+            pendingPage.cancel(true);
+            pendingPage = null;
+        }
+        remaining = 0;
+    }
+
+    private void fetch(String continuationToken) {
+        // Near the limit, only ask for the objects that are still needed
+        request = request.toBuilder()
+                .continuationToken(continuationToken != null ? continuationToken : request.continuationToken())
+                .maxKeys((int) Math.min(maxKeys, remaining))
+                .build();
+        pendingPage = pageFetcher.apply(request);
+    }
+}
@@ -0,0 +1,117 @@
+// Copyright (c) 2025 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+package io.ballerina.lib.aws.s3;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * Runs indexed tasks with bounded parallelism on a shared pool of daemon threads.
+ * Used by the managed transfer operations, where each task is a blocking request for one part of an object.
+ */
+public final class ParallelExecutor {
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "aws-s3-transfer-" + THREAD_COUNT.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private ParallelExecutor() {
+    }
+
+    /**
+     * Runs a single task on the shared pool.
+     *
+     * @param task the task to run
+     * @return a future that completes with the task result
+     */
+    public static <T> CompletableFuture<T> supply(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, EXECUTOR);
+    }
+
+    /**
+     * Runs the task for each index from 0 to taskCount - 1, with at most maxConcurrency tasks running at a time.
+     * Once a task fails no further tasks are started, and the first failure is thrown after the running tasks end.
+     *
+     * @param taskCount      number of tasks to run
+     * @param maxConcurrency maximum number of tasks running at a time
+     * @param task           the task to run for each index
+     * @return the task results in index order
+     */
+    public static <T> List<T> run(int taskCount, int maxConcurrency, IntFunction<T> task) {
+        AtomicReferenceArray<T> results = new AtomicReferenceArray<>(taskCount);
+        AtomicInteger nextIndex = new AtomicInteger();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        int workerCount = Math.min(taskCount, maxConcurrency);
+        List<Future<?>> workers = new ArrayList<>(workerCount);
+        for (int i = 0; i < workerCount; i++) {
+            workers.add(EXECUTOR.submit(() -> {
+                while (failure.get() == null) {
+                    int index = nextIndex.getAndIncrement();
+                    if (index >= taskCount) {
+                        return;
+                    }
+                    try {
+                        results.set(index, task.apply(index));
+                    } catch (Throwable t) {
+                        failure.compareAndSet(null, t);
+                    }
+                }
+            }));
+        }
+
+        for (Future<?> worker : workers) {
+            try {
+                worker.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure.compareAndSet(null, e);
+                workers.forEach(w -> w.cancel(true));
+                break;
+            } catch (ExecutionException e) {
+                failure.compareAndSet(null, e.getCause());
+            }
+        }
+
+        Throwable error = failure.get();
+        if (error instanceof RuntimeException) {
+            throw (RuntimeException) error;
+        } else if (error instanceof Error) {
+            throw (Error) error;
+        } else if (error != null) {
+            throw new IllegalStateException("Transfer was interrupted", error);
+        }
+
+        List<T> resultList = new ArrayList<>(taskCount);
+        for (int i = 0; i < taskCount; i++) {
+            resultList.add(results.get(i));
+        }
+        return resultList;
+    }
+}
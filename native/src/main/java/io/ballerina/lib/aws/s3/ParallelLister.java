@@ -0,0 +1,332 @@
+// Copyright (c) 2025 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+package io.ballerina.lib.aws.s3;
+
+import software.amazon.awssdk.services.s3.model.CommonPrefix;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Lists a bucket as partitions of the key space that are listed concurrently.
+ * Partitions are either discovered from the prefix tree with a delimiter, or are key ranges between startAfter
+ * boundaries. Pages are merged in key order by reading the partitions one after the other, while later
+ * partitions are listed ahead into bounded queues, or in arrival order from a single shared queue.
+ */
+public class ParallelLister implements ObjectPageSource {
+    private static final Object END_OF_PARTITION = new Object();
+    private static final long QUEUE_TIMEOUT_MILLIS = 100;
+    private static final int PAGES_PER_PARTITION = 2;
+
+    /**
+     * A part of the key space that is listed by one task, or objects that are already known from discovery.
+     */
+    public static final class Partition {
+        private final String firstKey;
+        private final ListObjectsV2Request request;
+        private final String lastKey;
+        private final List<S3Object> objects;
+
+        private Partition(String firstKey, ListObjectsV2Request request, String lastKey, List<S3Object> objects) {
+            this.firstKey = firstKey;
+            this.request = request;
+            this.lastKey = lastKey;
+            this.objects = objects;
+        }
+    }
+
+    private final List<Partition> partitions;
+    private final boolean ordered;
+    private final Function<ListObjectsV2Request, ListObjectsV2Response> pageFetcher;
+    private final List<BlockingQueue<Object>> queues = new ArrayList<>();
+    private int currentQueue = 0;
+    private long remaining;
+    private boolean finished = false;
+    private volatile boolean closed = false;
+    private volatile RuntimeException failure;
+
+    /**
+     * @param partitions     the partitions in key order
+     * @param maxConcurrency maximum number of partitions listed at a time
+     * @param ordered        whether pages are returned in key order
+     * @param maxObjects     maximum number of objects to return in total, or a negative value for no limit
+     * @param pageFetcher    sends a list request and waits for the response
+     */
+    public ParallelLister(List<Partition> partitions, int maxConcurrency, boolean ordered, long maxObjects,
+            Function<ListObjectsV2Request, ListObjectsV2Response> pageFetcher) {
+        this.partitions = partitions;
+        this.ordered = ordered;
+        this.pageFetcher = pageFetcher;
+        this.remaining = maxObjects < 0 ? Long.MAX_VALUE : maxObjects;
+        if (ordered) {
+            // Partitions are started in index order, so the partition that is being read always has a task
+            for (int i = 0; i < partitions.size(); i++) {
+                queues.add(new ArrayBlockingQueue<>(PAGES_PER_PARTITION));
+            }
+            finished = partitions.isEmpty();
+        } else {
+            queues.add(new ArrayBlockingQueue<>(maxConcurrency * PAGES_PER_PARTITION));
+        }
+
+        ParallelExecutor.supply(() -> {
+            try {
+                ParallelExecutor.run(partitions.size(), maxConcurrency, index -> {
+                    try {
+                        return listPartition(index);
+                    } catch (RuntimeException e) {
+                        fail(e);
+                        throw e;
+                    }
+                });
+                if (!ordered) {
+                    put(queues.get(0), END_OF_PARTITION);
+                }
+            } catch (RuntimeException e) {
+                fail(e);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Splits the key range under the prefix of the request at the given keys. The first partition lists the keys
+     * up to and including the first boundary, and each following partition the keys after the previous boundary.
+     *
+     * @param request    the list request for the whole range
+     * @param boundaries the boundary keys in ascending order
+     * @return the partitions in key order
+     */
+    public static List<Partition> rangePartitions(ListObjectsV2Request request, List<String> boundaries) {
+        List<Partition> partitions = new ArrayList<>(boundaries.size() + 1);
+        String startAfter = request.startAfter();
+        for (int i = 0; i <= boundaries.size(); i++) {
+            String lastKey = i < boundaries.size() ? boundaries.get(i) : null;
+            if (lastKey != null && startAfter != null && KeyOrder.compare(lastKey, startAfter) <= 0) {
+                throw new IllegalArgumentException("partitionBoundaries must be in ascending order, got: "
+                        + lastKey + " after " + startAfter);
+            }
+            partitions.add(new Partition(startAfter, request.toBuilder().startAfter(startAfter).build(), lastKey,
+                    null));
+            startAfter = lastKey;
+        }
+        return partitions;
+    }
+
+    /**
+     * Discovers the prefix tree under the prefix of the request, level by level, down to the given depth.
+     * Each prefix at the last level becomes a partition, and the objects found on the way are returned as
+     * partitions of known objects.
+     *
+     * @param request        the list request for the whole prefix
+     * @param delimiter      the delimiter that separates the levels of the tree
+     * @param depth          the number of levels to discover
+     * @param maxConcurrency maximum number of prefixes listed at a time
+     * @param pageFetcher    sends a list request and waits for the response
+     * @return the partitions in key order
+     */
+    public static List<Partition> discoverPartitions(ListObjectsV2Request request, String delimiter, int depth,
+            int maxConcurrency, Function<ListObjectsV2Request, ListObjectsV2Response> pageFetcher) {
+        List<Partition> partitions = new ArrayList<>();
+        List<String> level = List.of(request.prefix() != null ? request.prefix() : "");
+        for (int d = 0; d < depth && !level.isEmpty(); d++) {
+            List<String> prefixes = level;
+            List<List<ListObjectsV2Response>> results = ParallelExecutor.run(prefixes.size(), maxConcurrency,
+                    index -> listAllPages(request.toBuilder().prefix(prefixes.get(index)).delimiter(delimiter)
+                            .build(), pageFetcher));
+
+            List<String> nextLevel = new ArrayList<>();
+            for (List<ListObjectsV2Response> pages : results) {
+                for (ListObjectsV2Response page : pages) {
+                    for (S3Object object : page.contents()) {
+                        partitions.add(new Partition(object.key(), null, null, List.of(object)));
+                    }
+                    for (CommonPrefix prefix : page.commonPrefixes()) {
+                        nextLevel.add(prefix.prefix());
+                    }
+                }
+            }
+            level = nextLevel;
+        }
+        for (String prefix : level) {
+            partitions.add(new Partition(prefix, request.toBuilder().prefix(prefix).build(), null, null));
+        }
+
+        // An object sorts against every key under a prefix the same way it sorts against the prefix, as it does
+        // not start with the prefix
+        partitions.sort(Comparator.comparing(partition -> partition.firstKey, KeyOrder.COMPARATOR));
+        return mergeKnownObjects(partitions);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public synchronized List<S3Object> nextPage() {
+        while (!finished) {
+            if (remaining <= 0) {
+                close();
+                break;
+            }
+            Object item = take(queues.get(currentQueue));
+            if (item == END_OF_PARTITION) {
+                currentQueue++;
+                finished = !ordered || currentQueue == queues.size();
+                continue;
+            }
+            List<S3Object> page = (List<S3Object>) item;
+            if (page.size() > remaining) {
+                page = page.subList(0, (int) remaining);
+            }
+            remaining -= page.size();
+            return page;
+        }
+        finished = true;
+        return null;
+    }
+
+    /**
+     * Stops the listing. Partition tasks stop at their next page.
+     */
+    @Override
+    public void close() {
+        closed = true;
+    }
+
+    // Records the first failure as soon as a partition fails, and stops the other partitions. Producers that wait
+    // on a full queue would otherwise block the end of ParallelExecutor.run, while the consumer waits on the queue
+    // of the failed partition.
+    private void fail(RuntimeException e) {
+        if (failure == null) {
+            failure = e;
+        }
+        closed = true;
+    }
+
+    private Void listPartition(int index) {
+        Partition partition = partitions.get(index);
+        BlockingQueue<Object> queue = queues.get(ordered ? index : 0);
+        if (partition.objects != null) {
+            put(queue, partition.objects);
+        } else {
+            ListObjectsV2Request request = partition.request;
+            while (true) {
+                if (closed) {
+                    throw new CancellationException("Listing was closed");
+                }
+                ListObjectsV2Response response = pageFetcher.apply(request);
+                List<S3Object> objects = response.contents();
+                int end = partition.lastKey != null ? countUpTo(objects, partition.lastKey) : objects.size();
+                if (end > 0) {
+                    put(queue, objects.subList(0, end));
+                }
+                if (end < objects.size() || !Boolean.TRUE.equals(response.isTruncated())
+                        || response.nextContinuationToken() == null) {
+                    break;
+                }
+                request = request.toBuilder().continuationToken(response.nextContinuationToken()).build();
+            }
+        }
+        if (ordered) {
+            put(queue, END_OF_PARTITION);
+        }
+        return null;
+    }
+
+    private void put(BlockingQueue<Object> queue, Object item) {
+        try {
+            while (!queue.offer(item, QUEUE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (closed || failure != null) {
+                    throw new CancellationException("Listing was closed");
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Listing was interrupted");
+        }
+    }
+
+    // Waits for the next item of the queue. A failed partition ends the listing once the pages listed before the
+    // failure are read.
+    private Object take(BlockingQueue<Object> queue) {
+        try {
+            while (true) {
+                Object item = queue.poll(QUEUE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (item != null) {
+                    return item;
+                }
+                RuntimeException error = failure;
+                if (error != null) {
+                    finished = true;
+                    throw error;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new CancellationException("Listing was interrupted");
+        }
+    }
+
+    private static int countUpTo(List<S3Object> objects, String lastKey) {
+        int count = objects.size();
+        while (count > 0 && KeyOrder.compare(objects.get(count - 1).key(), lastKey) > 0) {
+            count--;
+        }
+        return count;
+    }
+
+    private static List<ListObjectsV2Response> listAllPages(ListObjectsV2Request request,
+            Function<ListObjectsV2Request, ListObjectsV2Response> pageFetcher) {
+        List<ListObjectsV2Response> pages = new ArrayList<>();
+        ListObjectsV2Response response = pageFetcher.apply(request);
+        pages.add(response);
+        while (Boolean.TRUE.equals(response.isTruncated()) && response.nextContinuationToken() != null) {
+            response = pageFetcher.apply(request.toBuilder().continuationToken(response.nextContinuationToken())
+                    .build());
+            pages.add(response);
+        }
+        return pages;
+    }
+
+    // Adjacent objects found during discovery are returned together as one partition
+    private static List<Partition> mergeKnownObjects(List<Partition> partitions) {
+        List<Partition> merged = new ArrayList<>(partitions.size());
+        List<S3Object> objects = new ArrayList<>();
+        for (Partition partition : partitions) {
+            if (partition.objects != null) {
+                objects.addAll(partition.objects);
+                continue;
+            }
+            if (!objects.isEmpty()) {
+                merged.add(new Partition(objects.get(0).key(), null, null, objects));
+                objects = new ArrayList<>();
+            }
+            merged.add(partition);
+        }
+        if (!objects.isEmpty()) {
+            merged.add(new Partition(objects.get(0).key(), null, null, objects));
+        }
+        return merged;
+    }
+}
@@ -0,0 +1,211 @@
+// Copyright (c) 2025 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+package io.ballerina.lib.aws.s3;
+
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.IntFunction;
+
+/**
+ * Downloads an object as byte ranges that are fetched concurrently and reassembled in order.
+ * Each part is fetched by index with a ranged or part numbered GET, and its position in the object is taken
+ * from the Content-Range of the response, so parts of a multipart layout may differ in size.
+ */
+public class RangedDownload {
+    private static final int WRITE_BUFFER_SIZE = 65536;
+
+    private final long objectSize;
+    private final int partCount;
+    private final int maxConcurrency;
+    private final IntFunction<ResponseInputStream<GetObjectResponse>> partFetcher;
+
+    public RangedDownload(long objectSize, int partCount, int maxConcurrency,
+            IntFunction<ResponseInputStream<GetObjectResponse>> partFetcher) {
+        this.objectSize = objectSize;
+        this.partCount = partCount;
+        this.maxConcurrency = maxConcurrency;
+        this.partFetcher = partFetcher;
+    }
+
+    public long getObjectSize() {
+        return objectSize;
+    }
+
+    /**
+     * Writes each part to its position in the file as soon as it arrives. Parts may complete in any order, so a
+     * part can be written beyond the current end of the file.
+     *
+     * @param channel the channel of the target file
+     */
+    public void toFile(FileChannel channel) {
+        ParallelExecutor.run(partCount, maxConcurrency, index -> {
+            try (ResponseInputStream<GetObjectResponse> part = partFetcher.apply(index)) {
+                long position = rangeStart(part.response());
+                long remaining = part.response().contentLength();
+                byte[] buffer = new byte[(int) Math.min(WRITE_BUFFER_SIZE, Math.max(remaining, 1))];
+                while (remaining > 0) {
+                    int bytesRead = part.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                    if (bytesRead == -1) {
+                        throw new IOException("Response ended before the expected part end at byte "
+                                + (position + remaining));
+                    }
+                    // Unlike transferFrom, a positional write extends the file when the position is past its end
+                    ByteBuffer data = ByteBuffer.wrap(buffer, 0, bytesRead);
+                    while (data.hasRemaining()) {
+                        position += channel.write(data, position);
+                    }
+                    remaining -= bytesRead;
+                }
+                return null;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Reads each part directly into its position of a single array that holds the whole object.
+     *
+     * @return the object content
+     */
+    public byte[] toBytes() {
+        if (objectSize > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Object of " + objectSize
+                    + " bytes is too large for a byte array, download it to a file or as a stream instead");
+        }
+        byte[] content = new byte[(int) objectSize];
+        ParallelExecutor.run(partCount, maxConcurrency, index -> {
+            try (ResponseInputStream<GetObjectResponse> part = partFetcher.apply(index)) {
+                int offset = (int) rangeStart(part.response());
+                int length = part.response().contentLength().intValue();
+                if (part.readNBytes(content, offset, length) != length) {
+                    throw new IOException("Response ended before the expected part end at byte " + (offset + length));
+                }
+                return null;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return content;
+    }
+
+    /**
+     * Returns a stream over the object content. At most maxConcurrency parts are fetched ahead of the reader,
+     * which bounds the memory held by the stream.
+     *
+     * @return an InputStream over the object content
+     */
+    public InputStream toInputStream() {
+        return new OrderedPartInputStream();
+    }
+
+    private byte[] readPart(int index) {
+        try (ResponseInputStream<GetObjectResponse> part = partFetcher.apply(index)) {
+            return part.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Content-Range has the form "bytes <start>-<end>/<size>"
+    private static long rangeStart(GetObjectResponse response) {
+        String contentRange = response.contentRange();
+        if (contentRange == null) {
+            return 0;
+        }
+        int start = contentRange.indexOf(' ') + 1;
+        int end = contentRange.indexOf('-', start);
+        return Long.parseLong(contentRange.substring(start, end));
+    }
+
+    private class OrderedPartInputStream extends InputStream {
+        private final Deque<CompletableFuture<byte[]>> window = new ArrayDeque<>();
+        private int nextPart = 0;
+        private byte[] current = new byte[0];
+        private int position = 0;
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            int bytesRead = read(single, 0, 1);
+            return bytesRead == -1 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            if (position == current.length && !nextChunk()) {
+                return -1;
+            }
+            int bytesRead = Math.min(length, current.length - position);
+            System.arraycopy(current, position, buffer, offset, bytesRead);
+            position += bytesRead;
+            return bytesRead;
+        }
+
+        private boolean nextChunk() throws IOException {
+            fillWindow();
+            CompletableFuture<byte[]> next = window.poll();
+            if (next == null) {
+                return false;
+            }
+            try {
+                current = next.join();
+                position = 0;
+            } catch (CompletionException e) {
+                // Keep S3 exceptions as they are so that they map to the matching Ballerina error type
+                if (e.getCause() instanceof UncheckedIOException) {
+                    throw ((UncheckedIOException) e.getCause()).getCause();
+                } else if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new IOException(e.getCause());
+            }
+            fillWindow();
+            return true;
+        }
+
+        private void fillWindow() {
+            while (window.size() < maxConcurrency && nextPart < partCount) {
+                int index = nextPart++;
+                window.add(ParallelExecutor.supply(() -> readPart(index)));
+            }
+        }
+
+        @Override
+        public void close() {
+            // Parts that are already in flight complete in the background and are discarded
+            window.forEach(future -> future.cancel(false));
+            window.clear();
+            nextPart = partCount;
+            current = new byte[0];
+            position = 0;
+        }
+    }
+}
@@ -0,0 +1,334 @@
+// Copyright (c) 2025 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+package io.ballerina.lib.aws.s3;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import software.amazon.awssdk.services.s3.model.Bucket;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Creates the records of the module directly from SDK responses, without an intermediate JSON value that has to be
+ * converted on the Ballerina side. Field names are kept as BString constants, as they are set on every object of a
+ * listing.
+ */
+public final class RecordCreator {
+    private static final String S3_OBJECT = "S3Object";
+    private static final String LIST_OBJECTS_RESPONSE = "ListObjectsResponse";
+    private static final String OBJECT_METADATA = "ObjectMetadata";
+    private static final String BUCKET = "Bucket";
+    private static final String DELETE_PROGRESS = "DeleteProgress";
+    private static final String DELETE_OBJECTS_RESULT = "DeleteObjectsResult";
+    private static final String DELETE_OBJECT_ERROR = "DeleteObjectError";
+    private static final String SYNC_RESULT = "SyncResult";
+    private static final String SYNC_FAILURE = "SyncFailure";
+    private static final String METADATA_CACHE_STATS = "MetadataCacheStats";
+    private static final String CLIENT_METRICS = "ClientMetrics";
+    private static final String OPERATION_METRICS = "OperationMetrics";
+
+    private static final BString KEY = StringUtils.fromString("key");
+    private static final BString SIZE = StringUtils.fromString("size");
+    private static final BString LAST_MODIFIED = StringUtils.fromString("lastModified");
+    private static final BString E_TAG = StringUtils.fromString("eTag");
+    private static final BString STORAGE_CLASS = StringUtils.fromString("storageClass");
+    private static final BString OBJECTS = StringUtils.fromString("objects");
+    private static final BString COUNT = StringUtils.fromString("count");
+    private static final BString IS_TRUNCATED = StringUtils.fromString("isTruncated");
+    private static final BString NEXT_CONTINUATION_TOKEN = StringUtils.fromString("nextContinuationToken");
+    private static final BString COMMON_PREFIXES = StringUtils.fromString("commonPrefixes");
+    private static final BString CONTENT_LENGTH = StringUtils.fromString("contentLength");
+    private static final BString CONTENT_TYPE = StringUtils.fromString("contentType");
+    private static final BString VERSION_ID = StringUtils.fromString("versionId");
+    private static final BString USER_METADATA = StringUtils.fromString("userMetadata");
+    private static final BString NAME = StringUtils.fromString("name");
+    private static final BString CREATION_DATE = StringUtils.fromString("creationDate");
+    private static final BString REGION = StringUtils.fromString("region");
+    private static final BString DELETED_COUNT = StringUtils.fromString("deletedCount");
+    private static final BString FAILED_COUNT = StringUtils.fromString("failedCount");
+    private static final BString ERRORS = StringUtils.fromString("errors");
+    private static final BString CODE = StringUtils.fromString("code");
+    private static final BString MESSAGE = StringUtils.fromString("message");
+    private static final BString COPIED_OBJECTS = StringUtils.fromString("copiedObjects");
+    private static final BString COPIED_BYTES = StringUtils.fromString("copiedBytes");
+    private static final BString SKIPPED_OBJECTS = StringUtils.fromString("skippedObjects");
+    private static final BString SKIPPED_BYTES = StringUtils.fromString("skippedBytes");
+    private static final BString FAILED_OBJECTS = StringUtils.fromString("failedObjects");
+    private static final BString FAILED_BYTES = StringUtils.fromString("failedBytes");
+    private static final BString DELETED_OBJECTS = StringUtils.fromString("deletedObjects");
+    private static final BString FAILURES = StringUtils.fromString("failures");
+    private static final BString HITS = StringUtils.fromString("hits");
+    private static final BString MISSES = StringUtils.fromString("misses");
+    private static final BString EVICTIONS = StringUtils.fromString("evictions");
+    private static final BString ENTRIES = StringUtils.fromString("entries");
+    private static final BString IN_FLIGHT_REQUESTS = StringUtils.fromString("inFlightRequests");
+    private static final BString LEASED_CONNECTIONS = StringUtils.fromString("leasedConnections");
+    private static final BString AVAILABLE_CONNECTIONS = StringUtils.fromString("availableConnections");
+    private static final BString PENDING_CONNECTION_ACQUIRES = StringUtils.fromString("pendingConnectionAcquires");
+    private static final BString OPERATIONS = StringUtils.fromString("operations");
+    private static final BString OPERATION = StringUtils.fromString("operation");
+    private static final BString REQUEST_COUNT = StringUtils.fromString("requestCount");
+    private static final BString ERROR_COUNT = StringUtils.fromString("errorCount");
+    private static final BString ATTEMPT_COUNT = StringUtils.fromString("attemptCount");
+    private static final BString THROTTLED_COUNT = StringUtils.fromString("throttledCount");
+    private static final BString BYTES_SENT = StringUtils.fromString("bytesSent");
+    private static final BString BYTES_RECEIVED = StringUtils.fromString("bytesReceived");
+    private static final BString P50_LATENCY = StringUtils.fromString("p50Latency");
+    private static final BString P99_LATENCY = StringUtils.fromString("p99Latency");
+    private static final BString MAX_LATENCY = StringUtils.fromString("maxLatency");
+
+    // Members of the Region and StorageClass enums in types.bal. Values outside these sets cannot be stored in the
+    // enum-typed record fields, so they are rejected with an error instead.
+    private static final Set<String> REGIONS = Set.of(
+            "af-south-1", "ap-east-1", "ap-east-2", "ap-northeast-1", "ap-northeast-2", "ap-northeast-3", "ap-south-1",
+            "ap-south-2", "ap-southeast-1", "ap-southeast-2", "ap-southeast-3", "ap-southeast-4", "ap-southeast-5",
+            "ap-southeast-6", "ap-southeast-7", "ca-west-1", "ca-central-1", "eu-central-1", "eu-central-2",
+            "eu-north-1", "eu-south-1", "eu-south-2", "eu-west-1", "eu-west-2", "eu-west-3", "il-central-1",
+            "mx-central-1", "me-central-1", "me-south-1", "sa-east-1", "us-east-1", "us-east-2", "us-gov-east-1",
+            "us-gov-west-1", "us-west-1", "us-west-2");
+    private static final Set<String> STORAGE_CLASSES = Set.of("STANDARD", "REDUCED_REDUNDANCY", "STANDARD_IA",
+            "ONEZONE_IA", "INTELLIGENT_TIERING", "GLACIER", "GLACIER_IR", "DEEP_ARCHIVE");
+
+    private static final Map<String, ArrayType> ARRAY_TYPES = new ConcurrentHashMap<>();
+    private static final Map<String, MapType> MAP_TYPES = new ConcurrentHashMap<>();
+
+    private RecordCreator() {
+    }
+
+    public static BMap<BString, Object> createS3Object(S3Object object) {
+        BMap<BString, Object> record = ValueCreator.createRecordValue(ModuleUtils.getModule(), S3_OBJECT);
+        putS3ObjectFields(record, object);
+        return record;
+    }
+
+    // Fills the fields of an S3Object record. Kept apart from createS3Object so that the conversion can be
+    // benchmarked outside a Ballerina program, where the record type is not available.
+    static void putS3ObjectFields(BMap<BString, Object> record, S3Object object) {
+        record.put(KEY, StringUtils.fromString(object.key()));
+        record.put(SIZE, object.size());
+        record.put(LAST_MODIFIED, StringUtils.fromString(object.lastModified().toString()));
+        record.put(E_TAG, StringUtils.fromString(object.eTag()));
+        if (object.storageClassAsString() != null) {
+            record.put(STORAGE_CLASS, toStorageClass(object.storageClassAsString(), object.key()));
+        }
+    }
+
+    public static BArray createS3ObjectArray(List<S3Object> objects) {
+        Object[] records = new Object[objects.size()];
+        for (int i = 0; i < records.length; i++) {
+            records[i] = createS3Object(objects.get(i));
+        }
+        return ValueCreator.createArrayValue(records, getArrayType(S3_OBJECT));
+    }
+
+    public static BMap<BString, Object> createListObjectsResponse(ListObjectsV2Response response) {
+        BMap<BString, Object> record = ValueCreator.createRecordValue(ModuleUtils.getModule(), LIST_OBJECTS_RESPONSE);
+        List<S3Object> objects = response.contents();
+        record.put(OBJECTS, createS3ObjectArray(objects));
+        record.put(COUNT, (long) objects.size());
+        record.put(IS_TRUNCATED, Boolean.TRUE.equals(response.isTruncated()));
+        if (response.nextContinuationToken() != null) {
+            record.put(NEXT_CONTINUATION_TOKEN, StringUtils.fromString(response.nextContinuationToken()));
+        }
+        if (response.hasCommonPrefixes() && !response.commonPrefixes().isEmpty()) {
+            BString[] prefixes = response.commonPrefixes().stream()
+                    .map(prefix -> StringUtils.fromString(prefix.prefix()))
+                    .toArray(BString[]::new);
+            record.put(COMMON_PREFIXES, ValueCreator.createArrayValue(prefixes));
+        }
+        return record;
+    }
+
+    public static BMap<BString, Object> createObjectMetadata(BString key, HeadObjectResponse response) {
+        BMap<BString, Object> record = ValueCreator.createRecordValue(ModuleUtils.getModule(), OBJECT_METADATA);
+        putObjectMetadataFields(record, key, response);
+        return record;
+    }
+
+    // Fills the fields of an ObjectMetadata record, see putS3ObjectFields
+    static void putObjectMetadataFields(BMap<BString, Object> record, BString key, HeadObjectResponse response) {
+        record.put(KEY, key);
+        record.put(CONTENT_LENGTH, response.contentLength());
+        if (response.contentType() != null) {
+            record.put(CONTENT_TYPE, StringUtils.fromString(response.contentType()));
+        }
+        if (response.eTag() != null) {
+            record.put(E_TAG, StringUtils.fromString(response.eTag()));
+        }
+        if (response.lastModified() != null) {
+            record.put(LAST_MODIFIED, StringUtils.fromString(response.lastModified().toString()));
+        }
+        if (response.storageClassAsString() != null) {
+            record.put(STORAGE_CLASS, toStorageClass(response.storageClassAsString(), key.getValue()));
+        }
+        if (response.versionId() != null) {
+            record.put(VERSION_ID, StringUtils.fromString(response.versionId()));
+        }
+        Map<String, String> userMetadata = response.metadata();
+        if (userMetadata != null && !userMetadata.isEmpty()) {
+            BMap<BString, Object> userMeta = ValueCreator.createMapValue(
+                    TypeCreator.createMapType(PredefinedTypes.TYPE_ANYDATA));
+            userMetadata.forEach((k, v) -> userMeta.put(StringUtils.fromString(k), StringUtils.fromString(v)));
+            record.put(USER_METADATA, userMeta);
+        }
+    }
+
+    public static BMap<BString, Object> createBucket(Bucket bucket, String region) {
+        BMap<BString, Object> record = ValueCreator.createRecordValue(ModuleUtils.getModule(), BUCKET);
+        record.put(NAME, StringUtils.fromString(bucket.name()));
+        Instant creationDate = bucket.creationDate();
+        record.put(CREATION_DATE, StringUtils.fromString(creationDate != null ? creationDate.toString() : ""));
+        if (!REGIONS.contains(region)) {
+            throw new IllegalArgumentException("Bucket '" + bucket.name() + "' is in region '" + region +
+                    "', which is not a supported Region");
+        }
+        record.put(REGION, StringUtils.fromString(region));
+        return record;
+    }
+
+    private static BString toStorageClass(String storageClass, String key) {
+        if (!STORAGE_CLASSES.contains(storageClass)) {
+            throw new IllegalArgumentException("Object '" + key + "' has storage class '" + storageClass +
+                    "', which is not a supported StorageClass");
+        }
+        return StringUtils.fromString(storageClass);
+    }
+
+    public static BArray createBucketArray(Object[] buckets) {
+        return ValueCreator.createArrayValue(buckets, getArrayType(BUCKET));
+    }
+
+    public static BMap<BString, Object> createDeleteProgress(long deletedCount, long failedCount) {
+        BMap<BString, Object> record = ValueCreator.createRecordValue(ModuleUtils.getModule(), DELETE_PROGRESS);
+        record.put(DELETED_COUNT, deletedCount);
+        record.put(FAILED_COUNT, failedCount);
+        return record;
+    }
+
+    public static BMap<BString, Object> createDeleteObjectsResult(long deletedCount, List<S3Error> errors) {
+        Object[] errorRecords = new Object[errors.size()];
+        for (int i = 0; i < errorRecords.length; i++) {
+            S3Error error = errors.get(i);
+            BMap<BString, Object> errorRecord = ValueCreator.createRecordValue(ModuleUtils.getModule(),
+                    DELETE_OBJECT_ERROR);
+            errorRecord.put(KEY, StringUtils.fromString(error.key()));
+            if (error.versionId() != null) {
+                errorRecord.put(VERSION_ID, StringUtils.fromString(error.versionId()));
+            }
+            errorRecord.put(CODE, StringUtils.fromString(error.code() != null ? error.code() : ""));
+            errorRecord.put(MESSAGE, StringUtils.fromString(error.message() != null ? error.message() : ""));
+            errorRecords[i] = errorRecord;
+        }
+
+        BMap<BString, Object> record = ValueCreator.createRecordValue(ModuleUtils.getModule(), DELETE_OBJECTS_RESULT);
+        record.put(DELETED_COUNT, deletedCount);
+        record.put(ERRORS, ValueCreator.createArrayValue(errorRecords, getArrayType(DELETE_OBJECT_ERROR)));
+        return record;
+    }
+
+    public static BMap<BString, Object> createSyncResult(long copiedObjects, long copiedBytes, long skippedObjects,
+            long skippedBytes, long failedObjects, long failedBytes, long deletedObjects,
+            List<Map.Entry<String, String>> failures) {
+        Object[] failureRecords = new Object[failures.size()];
+        for (int i = 0; i < failureRecords.length; i++) {
+            BMap<BString, Object> failure = ValueCreator.createRecordValue(ModuleUtils.getModule(), SYNC_FAILURE);
+            failure.put(KEY, StringUtils.fromString(failures.get(i).getKey()));
+            failure.put(MESSAGE, StringUtils.fromString(failures.get(i).getValue()));
+            failureRecords[i] = failure;
+        }
+
+        BMap<BString, Object> record = ValueCreator.createRecordValue(ModuleUtils.getModule(), SYNC_RESULT);
+        record.put(COPIED_OBJECTS, copiedObjects);
+        record.put(COPIED_BYTES, copiedBytes);
+        record.put(SKIPPED_OBJECTS, skippedObjects);
+        record.put(SKIPPED_BYTES, skippedBytes);
+        record.put(FAILED_OBJECTS, failedObjects);
+        record.put(FAILED_BYTES, failedBytes);
+        record.put(DELETED_OBJECTS, deletedObjects);
+        record.put(FAILURES, ValueCreator.createArrayValue(failureRecords, getArrayType(SYNC_FAILURE)));
+        return record;
+    }
+
+    public static BMap<BString, Object> createMetadataCacheStats(long hits, long misses, long evictions,
+            long entries) {
+        BMap<BString, Object> record = ValueCreator.createRecordValue(ModuleUtils.getModule(), METADATA_CACHE_STATS);
+        record.put(HITS, hits);
+        record.put(MISSES, misses);
+        record.put(EVICTIONS, evictions);
+        record.put(ENTRIES, entries);
+        return record;
+    }
+
+    public static BMap<BString, Object> createClientMetrics(MetricsCollector metrics) {
+        BMap<BString, Object> operations = ValueCreator.createMapValue(getMapType(OPERATION_METRICS));
+        metrics.operations().forEach((name, operation) -> {
+            BMap<BString, Object> record = ValueCreator.createRecordValue(ModuleUtils.getModule(), OPERATION_METRICS);
+            record.put(OPERATION, StringUtils.fromString(name));
+            record.put(REQUEST_COUNT, operation.requests.sum());
+            record.put(ERROR_COUNT, operation.errors.sum());
+            record.put(ATTEMPT_COUNT, operation.attempts.sum());
+            record.put(THROTTLED_COUNT, operation.throttled.sum());
+            record.put(BYTES_SENT, operation.bytesSent.sum());
+            record.put(BYTES_RECEIVED, operation.bytesReceived.sum());
+            record.put(P50_LATENCY, toSeconds(operation.latency.percentile(0.5)));
+            record.put(P99_LATENCY, toSeconds(operation.latency.percentile(0.99)));
+            record.put(MAX_LATENCY, toSeconds(operation.latency.max()));
+            operations.put(StringUtils.fromString(name), record);
+        });
+
+        BMap<BString, Object> record = ValueCreator.createRecordValue(ModuleUtils.getModule(), CLIENT_METRICS);
+        record.put(IN_FLIGHT_REQUESTS, (long) metrics.inFlightRequests());
+        record.put(LEASED_CONNECTIONS, (long) metrics.leasedConnections());
+        record.put(AVAILABLE_CONNECTIONS, (long) metrics.availableConnections());
+        record.put(PENDING_CONNECTION_ACQUIRES, (long) metrics.pendingConnectionAcquires());
+        record.put(OPERATIONS, operations);
+        return record;
+    }
+
+    private static BDecimal toSeconds(long micros) {
+        return ValueCreator.createDecimalValue(BigDecimal.valueOf(micros, 6));
+    }
+
+    // The array types are resolved from a record of the module on first use, as the module is only known once it
+    // has been initialized
+    private static ArrayType getArrayType(String recordName) {
+        return ARRAY_TYPES.computeIfAbsent(recordName, name -> TypeCreator.createArrayType(
+                ValueCreator.createRecordValue(ModuleUtils.getModule(), name).getType()));
+    }
+
+    private static MapType getMapType(String recordName) {
+        return MAP_TYPES.computeIfAbsent(recordName, name -> TypeCreator.createMapType(
+                ValueCreator.createRecordValue(ModuleUtils.getModule(), name).getType()));
+    }
+}
@@ -16,63 +16,118 @@
 
 package io.ballerina.lib.aws.s3;
 
+import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BObject;
-
-import software.amazon.awssdk.core.ResponseInputStream;
-import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Object;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
 
 public class StreamIteratorUtils {
     /**
-     * Key used to store the native ResponseInputStream in the BObject native data map.
+     * Key used to store the native ChunkReader in the BObject native data map.
      * Keep this value in sync with the Ballerina side that stores/reads the native reference;
      * a typo in the key would silently return null and lead to misleading "Stream is closed" errors.
      */
     private static final String NATIVE_STREAM = "NATIVE_STREAM";
+    private static final String NATIVE_LISTING = "NATIVE_LISTING";
 
     // Stream Operations
-    @SuppressWarnings("unchecked")
-    public static Object readStreamBytes(BObject streamWrapper) {
-        ResponseInputStream<GetObjectResponse> input = (ResponseInputStream<GetObjectResponse>) streamWrapper
-                .getNativeData(NATIVE_STREAM);
-        if (input == null)
+    public static Object readStreamBytes(Environment env, BObject streamWrapper) {
+        ChunkReader reader = (ChunkReader) streamWrapper.getNativeData(NATIVE_STREAM);
+        if (reader == null)
             return ErrorCreator.createError("Stream is closed.");
 
         try {
-            byte[] buffer = new byte[4096];
-            int read = input.read(buffer);
-            if (read == -1) {
-                input.close();
+            // Waiting on the read-ahead queue yields the strand instead of holding the thread
+            BArray chunk = reader.isReadAhead() ? env.yieldAndRun(() -> nextChunk(reader)) : readChunk(reader);
+            if (chunk == null) {
+                reader.close();
                 streamWrapper.addNativeData(NATIVE_STREAM, null);
                 return null;
             }
-            if (read < 4096) {
-                byte[] trimmed = new byte[read];
-                System.arraycopy(buffer, 0, trimmed, 0, read);
-                return ValueCreator.createArrayValue(trimmed);
-            }
-            return ValueCreator.createArrayValue(buffer);
-        } catch (IOException e) {
+            return chunk;
+        } catch (IOException | RuntimeException e) {
             return ErrorCreator.createError(e);
         }
     }
 
-    @SuppressWarnings("unchecked")
+    // Reads the next chunk as a Ballerina byte array, or returns null at the end of the content
+    static BArray readChunk(ChunkReader reader) throws IOException {
+        byte[] chunk = reader.next();
+        return chunk != null ? ValueCreator.createArrayValue(chunk) : null;
+    }
+
+    private static BArray nextChunk(ChunkReader reader) {
+        try {
+            return readChunk(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     public static Object closeStream(BObject streamWrapper) {
-        ResponseInputStream<GetObjectResponse> input = (ResponseInputStream<GetObjectResponse>) streamWrapper
-                .getNativeData(NATIVE_STREAM);
-        if (input == null) {
+        ChunkReader reader = (ChunkReader) streamWrapper.getNativeData(NATIVE_STREAM);
+        if (reader == null) {
             return null; // Already closed
         }
 
         try {
-            input.close();
+            reader.close();
             streamWrapper.addNativeData(NATIVE_STREAM, null);
             return null;
         } catch (IOException e) {
             return ErrorCreator.createError(e);
         }
     }
+
+    // Object Listing Operations
+    public static Object readNextObject(Environment env, BObject iterator) {
+        ObjectCursor cursor = (ObjectCursor) iterator.getNativeData(NATIVE_LISTING);
+        if (cursor == null) {
+            return null;
+        }
+
+        try {
+            while (cursor.page == null || cursor.index >= cursor.page.size()) {
+                // Waiting for the page that is in flight yields the strand
+                cursor.page = env.yieldAndRun(cursor.source::nextPage);
+                cursor.index = 0;
+                if (cursor.page == null) {
+                    iterator.addNativeData(NATIVE_LISTING, null);
+                    return null;
+                }
+            }
+            return RecordCreator.createS3Object(cursor.page.get(cursor.index++));
+        } catch (RuntimeException e) {
+            return ErrorCreator.createError(e);
+        }
+    }
+
+    public static Object closeObjectStream(BObject iterator) {
+        ObjectCursor cursor = (ObjectCursor) iterator.getNativeData(NATIVE_LISTING);
+        if (cursor != null) {
+            cursor.source.close();
+            iterator.addNativeData(NATIVE_LISTING, null);
+        }
+        return null;
+    }
+
+    static void setObjectSource(BObject iterator, ObjectPageSource source) {
+        iterator.addNativeData(NATIVE_LISTING, new ObjectCursor(source));
+    }
+
+    // Position of the iterator in the current page of a listing
+    private static final class ObjectCursor {
+        private final ObjectPageSource source;
+        private List<S3Object> page;
+        private int index;
+
+        private ObjectCursor(ObjectPageSource source) {
+            this.source = source;
+        }
+    }
 }
@@ -0,0 +1,104 @@
+// Copyright (c) 2025 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+package io.ballerina.lib.aws.s3;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Tests for {@link ParallelLister} with pages that are served from memory.
+ */
+public class ParallelListerTest {
+    private static final int PAGES_PER_PARTITION = 10;
+
+    @Test
+    public void testOrderedListingFailsWhenPartitionFails() throws InterruptedException, TimeoutException {
+        ListObjectsV2Request request = ListObjectsV2Request.builder().bucket("bucket").build();
+        List<ParallelLister.Partition> partitions = ParallelLister.rangePartitions(request, List.of("b", "c"));
+        // The first partition fails once the later partitions have filled their queues with more pages than fit
+        ParallelLister lister = new ParallelLister(partitions, partitions.size(), true, -1, pageRequest -> {
+            if (pageRequest.startAfter() == null) {
+                sleep(200);
+                throw new IllegalStateException("Listing of the first partition failed");
+            }
+            return createPage(pageRequest);
+        });
+
+        CompletableFuture<List<S3Object>> page = CompletableFuture.supplyAsync(lister::nextPage);
+        try {
+            page.get(5, TimeUnit.SECONDS);
+            Assert.fail("The listing did not fail");
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+            Assert.assertEquals(e.getCause().getMessage(), "Listing of the first partition failed");
+        }
+    }
+
+    @Test
+    public void testPartitionsFollowUtf8KeyOrder() {
+        // U+FF5E sorts after U+1F600 as UTF-16 code units, but before it as UTF-8 bytes, which is the listing order
+        List<String> keys = List.of("a", "\uFF5E", "\uD83D\uDE00");
+        ListObjectsV2Request request = ListObjectsV2Request.builder().bucket("bucket").build();
+        List<ParallelLister.Partition> partitions = ParallelLister.rangePartitions(request,
+                List.of("\uFF5E", "\uD83D\uDE00"));
+        ParallelLister lister = new ParallelLister(partitions, partitions.size(), true, -1, pageRequest -> {
+            int start = pageRequest.startAfter() != null ? keys.indexOf(pageRequest.startAfter()) + 1 : 0;
+            List<S3Object> objects = new ArrayList<>();
+            for (String key : keys.subList(start, keys.size())) {
+                objects.add(S3Object.builder().key(key).size(1L).build());
+            }
+            return ListObjectsV2Response.builder().contents(objects).isTruncated(false).build();
+        });
+
+        List<String> listedKeys = new ArrayList<>();
+        List<S3Object> page;
+        while ((page = lister.nextPage()) != null) {
+            page.forEach(object -> listedKeys.add(object.key()));
+        }
+        Assert.assertEquals(listedKeys, keys);
+    }
+
+    // Returns one object per page, with keys after the startAfter key of the partition
+    private static ListObjectsV2Response createPage(ListObjectsV2Request request) {
+        int pageIndex = request.continuationToken() != null ? Integer.parseInt(request.continuationToken()) : 0;
+        String key = request.startAfter() + String.format("%02d", pageIndex);
+        boolean truncated = pageIndex + 1 < PAGES_PER_PARTITION;
+        return ListObjectsV2Response.builder()
+                .contents(S3Object.builder().key(key).size(1L).build())
+                .isTruncated(truncated)
+                .nextContinuationToken(truncated ? String.valueOf(pageIndex + 1) : null)
+                .build();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+// Copyright (c) 2025 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+package io.ballerina.lib.aws.s3;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for {@link RangedDownload} with parts that are served from memory.
+ */
+public class RangedDownloadTest {
+    private static final int PART_SIZE = 100000;
+    private static final int PART_COUNT = 4;
+
+    @Test
+    public void testToFileWithPartsCompletingOutOfOrder() throws IOException {
+        byte[] content = new byte[PART_SIZE * PART_COUNT];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) (i % 251);
+        }
+        // Every part except the last one waits until the last part is written, so the file is written from its end
+        CountDownLatch lastPartWritten = new CountDownLatch(1);
+        RangedDownload download = new RangedDownload(content.length, PART_COUNT, PART_COUNT, index -> {
+            if (index == PART_COUNT - 1) {
+                return createPart(content, index, lastPartWritten);
+            }
+            awaitLatch(lastPartWritten);
+            return createPart(content, index, null);
+        });
+
+        Path file = Files.createTempFile("ranged-download", ".bin");
+        try {
+            // Existing content is truncated first, like downloadFile does
+            Files.write(file, new byte[content.length * 2]);
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                download.toFile(channel);
+            }
+            Assert.assertEquals(Files.readAllBytes(file), content);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testToBytesWithPartsCompletingOutOfOrder() {
+        byte[] content = new byte[PART_SIZE * PART_COUNT];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) (i % 239);
+        }
+        CountDownLatch lastPartRead = new CountDownLatch(1);
+        RangedDownload download = new RangedDownload(content.length, PART_COUNT, PART_COUNT, index -> {
+            if (index == PART_COUNT - 1) {
+                return createPart(content, index, lastPartRead);
+            }
+            awaitLatch(lastPartRead);
+            return createPart(content, index, null);
+        });
+        Assert.assertEquals(download.toBytes(), content);
+    }
+
+    // Serves one part with the Content-Range of a ranged GET. The latch is released once the part is closed
+    private static ResponseInputStream<GetObjectResponse> createPart(byte[] content, int index,
+            CountDownLatch closed) {
+        long start = (long) index * PART_SIZE;
+        long end = start + PART_SIZE - 1;
+        GetObjectResponse response = GetObjectResponse.builder()
+                .contentLength((long) PART_SIZE)
+                .contentRange("bytes " + start + "-" + end + "/" + content.length)
+                .build();
+        ByteArrayInputStream input = new ByteArrayInputStream(content, (int) start, PART_SIZE) {
+            @Override
+            public void close() throws IOException {
+                super.close();
+                if (closed != null) {
+                    closed.countDown();
+                }
+            }
+        };
+        return new ResponseInputStream<>(response, AbortableInputStream.create(input));
+    }
+
+    private static void awaitLatch(CountDownLatch latch) {
+        try {
+            if (!latch.await(10, TimeUnit.SECONDS)) {
+                throw new UncheckedIOException(new IOException("Timed out waiting for the last part"));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+// Copyright (c) 2025 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+package io.ballerina.lib.aws.s3;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the key order of the merge-join of syncPrefix.
+ */
+public class SyncKeyOrderTest {
+
+    @Test
+    public void testKeysAreComparedInUtf8Order() {
+        // U+1F600 sorts before U+FF5E as UTF-16 code units, but after it as UTF-8 bytes, which is the listing order
+        String emoji = "\uD83D\uDE00";
+        String fullwidthTilde = "\uFF5E";
+        Assert.assertTrue(emoji.compareTo(fullwidthTilde) < 0);
+        Assert.assertTrue(NativeClientAdaptor.compareKeySuffixes("src/" + emoji, "src/",
+                "dst/" + fullwidthTilde, "dst/") > 0);
+        Assert.assertEquals(NativeClientAdaptor.compareKeySuffixes("src/a" + emoji, "src/",
+                "destination/a" + emoji, "destination/"), 0);
+    }
+}